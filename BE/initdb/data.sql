@@ -5,6 +5,8 @@
 
 -- PostGIS 확장
 CREATE EXTENSION IF NOT EXISTS postgis;
+-- 트라이그램 확장 (재료명 부분검색 LIKE '%q%' 인덱스용)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 -- ============================================
 -- 1. 회원 (Member)
@@ -37,6 +39,7 @@ CREATE TABLE ingredient (
     ingredient_id BIGSERIAL PRIMARY KEY,
     member_id BIGINT NOT NULL,
     ingredient_name VARCHAR(100) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL, -- 중복 판정/검색용(NFKC+소문자+공백 제거), 애플리케이션이 저장 시 계산
     location VARCHAR(50) NOT NULL,     -- VARCHAR 유지
     due TIMESTAMP NOT NULL,            -- NOT NULL 유지(트리거로 보완 가능)
     is_due_estimated BOOLEAN NOT NULL DEFAULT TRUE, -- 예상 기한 여부
@@ -50,6 +53,7 @@ CREATE TABLE ingredient (
 
 COMMENT ON TABLE ingredient IS '냉장고 재료 정보';
 COMMENT ON COLUMN ingredient.is_due_estimated IS '소비기한이 추정값인지 여부(TRUE=추정)';
+COMMENT ON COLUMN ingredient.normalized_name IS '정규화된 재료명(NFKC+소문자+공백 제거). 중복 판정/검색 키';
 
 -- (옵션) due 미입력 시 기본값 자동 보완 트리거
 -- 규칙 예: 냉장고 +7일, 냉동실 +90일, 실온 +3일
@@ -76,6 +80,23 @@ BEFORE INSERT ON ingredient
 FOR EACH ROW
 EXECUTE FUNCTION set_default_due_if_null();
 
+-- 2-1. 재료 보관(archive): 소비기한이 오래 지난 재료를 배치로 옮겨 ingredient 를 작게 유지
+CREATE TABLE ingredient_archive (
+    ingredient_id BIGINT PRIMARY KEY,  -- 원래 id 유지(복원 시 그대로 되돌림)
+    member_id BIGINT NOT NULL,
+    ingredient_name VARCHAR(100) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL,
+    location VARCHAR(50) NOT NULL,
+    due TIMESTAMP NOT NULL,
+    is_due_estimated BOOLEAN NOT NULL,
+    memo VARCHAR(255),
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT fk_ingredient_archive_member FOREIGN KEY (member_id)
+        REFERENCES member(member_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE ingredient_archive IS '소비기한이 오래 지난 재료 보관(복원 가능)';
+
 -- ============================================
 -- 3. 레시피 (Recipe)
 -- ============================================
@@ -237,6 +258,25 @@ CREATE TABLE refresh_token (
 
 COMMENT ON TABLE refresh_token IS 'JWT 리프레시 토큰 정보';
 
+-- ============================================
+-- 8. 도메인 이벤트 아웃박스 (Outbox)
+-- ============================================
+CREATE TABLE domain_event_outbox (
+    event_id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,   -- INGREDIENT, RECIPE, GROUP_BUYING, PARTICIPANT
+    aggregate_id BIGINT,                   -- 일괄 이벤트는 NULL
+    event_type VARCHAR(30) NOT NULL,
+    member_id BIGINT,
+    payload TEXT,                          -- JSON
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,                -- 리스너 전달 완료 시각
+    attempts INT NOT NULL DEFAULT 0,       -- 릴레이 전달 실패 횟수
+    last_error VARCHAR(500),               -- 마지막 실패 사유
+    dead_at TIMESTAMP                      -- 실패가 반복되어 릴레이 대상에서 뺀 시각
+);
+
+COMMENT ON TABLE domain_event_outbox IS '도메인 변경 이벤트(트랜잭션 아웃박스)';
+
 -- ============================================
 -- 인덱스
 -- ============================================
@@ -248,6 +288,27 @@ CREATE INDEX IF NOT EXISTS idx_member_allergies_gin ON member USING GIN (allergi
 -- ingredient: 회원/위치/기한 조회 최적화
 CREATE INDEX IF NOT EXISTS idx_ing_member_loc_due
   ON ingredient(member_id, location, due);
+-- ingredient: 위치 미지정 목록/스크롤의 정렬 순서(기한순/이름순) 그대로 읽기
+--   (이름은 쿼리와 같은 COLLATE "C" 여야 인덱스 순서로 읽힘)
+CREATE INDEX IF NOT EXISTS idx_ing_member_due_name
+  ON ingredient(member_id, due, ingredient_name COLLATE "C", ingredient_id);
+CREATE INDEX IF NOT EXISTS idx_ing_member_name_due
+  ON ingredient(member_id, ingredient_name COLLATE "C", due, ingredient_id);
+-- ingredient: 이름 부분검색(normalized_name LIKE '%q%')
+CREATE INDEX IF NOT EXISTS idx_ing_norm_trgm
+  ON ingredient USING GIN (normalized_name gin_trgm_ops);
+-- ingredient: 같은 회원/위치/날짜에 같은 이름 중복 금지(동시 생성 경합도 DB가 최종 판정)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_ing_member_loc_day_norm
+  ON ingredient(member_id, location, (due::date), normalized_name);
+-- ingredient_archive: 회원별 최근 보관 목록
+CREATE INDEX IF NOT EXISTS idx_ing_archive_member_id
+  ON ingredient_archive(member_id, ingredient_id);
+-- ingredient: 회원별 id 순 키셋 순회(내보내기)
+CREATE INDEX IF NOT EXISTS idx_ing_member_id
+  ON ingredient(member_id, ingredient_id);
+-- ingredient: 소비기한 알림 스캔(날짜별 파티션 → 회원/ID 키셋 순회)
+CREATE INDEX IF NOT EXISTS idx_ing_due_day_member
+  ON ingredient((due::date), member_id, ingredient_id);
 
 -- recipe
 CREATE INDEX IF NOT EXISTS idx_recipe_member ON recipe(member_id);
@@ -258,6 +319,17 @@ CREATE INDEX IF NOT EXISTS idx_groupbuying_status   ON groupbuying(status);
 CREATE INDEX IF NOT EXISTS idx_groupbuying_deadline ON groupbuying(deadline);
 CREATE INDEX IF NOT EXISTS idx_groupbuying_category ON groupbuying(category);
 CREATE INDEX IF NOT EXISTS idx_groupbuying_location ON groupbuying USING GIST (pickup_location_point);
+-- groupbuying: 최신순 커서 목록(전체/카테고리/내 글/모집중), 마감 스캔
+CREATE INDEX IF NOT EXISTS idx_groupbuying_created_id
+  ON groupbuying(created_at DESC, groupbuying_id DESC);
+CREATE INDEX IF NOT EXISTS idx_groupbuying_category_created
+  ON groupbuying(category, created_at DESC, groupbuying_id DESC);
+CREATE INDEX IF NOT EXISTS idx_groupbuying_member_created
+  ON groupbuying(member_id, created_at DESC, groupbuying_id DESC);
+CREATE INDEX IF NOT EXISTS idx_groupbuying_status_created
+  ON groupbuying(status, created_at DESC, groupbuying_id DESC);
+CREATE INDEX IF NOT EXISTS idx_groupbuying_status_deadline
+  ON groupbuying(status, deadline);
 
 -- participants
 CREATE INDEX IF NOT EXISTS idx_participants_groupbuying ON participants(groupbuying_id);
@@ -269,3 +341,11 @@ CREATE INDEX IF NOT EXISTS idx_chatmessage_member      ON chat_message(member_id
 
 -- refresh_token
 CREATE INDEX IF NOT EXISTS idx_refresh_member ON refresh_token(member_id);
+
+-- domain_event_outbox: 미전달 이벤트만 id 순으로(릴레이), 전달 완료/격리 행 정리
+CREATE INDEX IF NOT EXISTS idx_outbox_unpublished
+  ON domain_event_outbox(event_id) WHERE published_at IS NULL AND dead_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_published_at
+  ON domain_event_outbox(published_at) WHERE published_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_dead_at
+  ON domain_event_outbox(dead_at) WHERE dead_at IS NOT NULL;
@@ -1,15 +1,23 @@
 package com.stg.sikboo.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import com.stg.sikboo.security.StompAuthChannelInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 메시지 브로커 설정
@@ -19,6 +27,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         
         // 클라이언트가 서버로 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
+        
+        // 사용자 전용 목적지: /user/queue/... 구독 → 연결한 회원에게만 전달
+        config.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 JWT 검증 후 Principal(회원 id) 설정
+        registration.interceptors(stompAuthChannelInterceptor);
     }
 
     @Override
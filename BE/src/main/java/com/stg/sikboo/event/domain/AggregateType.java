@@ -0,0 +1,11 @@
+package com.stg.sikboo.event.domain;
+
+/**
+ * 이벤트가 발생한 도메인 종류
+ */
+public enum AggregateType {
+    INGREDIENT,
+    RECIPE,
+    GROUP_BUYING,
+    PARTICIPANT
+}
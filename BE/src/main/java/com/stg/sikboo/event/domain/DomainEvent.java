@@ -0,0 +1,21 @@
+package com.stg.sikboo.event.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리스너에 전달되는 불변 이벤트 (아웃박스 행의 스냅샷)
+ * - 적어도 한 번(at-least-once) 전달: 같은 id 가 두 번 올 수 있으므로 리스너는 멱등하게 처리할 것
+ */
+public record DomainEvent(
+        Long id,
+        AggregateType aggregateType,
+        Long aggregateId,
+        EventType eventType,
+        Long memberId,
+        String payload,
+        LocalDateTime occurredAt
+) {
+    public boolean is(AggregateType type) {
+        return aggregateType == type;
+    }
+}
@@ -0,0 +1,16 @@
+package com.stg.sikboo.event.domain;
+
+/**
+ * 도메인 이벤트 종류
+ */
+public enum EventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    BULK_CREATED,   // 일괄 저장(AI/온보딩/가져오기), aggregateId 없음
+    ARCHIVED,       // 오래 지난 재료 보관, aggregateId 없음
+    RESTORED,       // 보관 재료 복원
+    CLOSED,         // 공동구매 마감
+    JOINED,         // 공동구매 참여 (aggregateId = 공동구매 id)
+    LEFT            // 공동구매 나가기 (aggregateId = 공동구매 id)
+}
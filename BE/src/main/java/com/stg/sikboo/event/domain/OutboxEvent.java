@@ -0,0 +1,79 @@
+package com.stg.sikboo.event.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭션 아웃박스 행
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, 커밋 후 리스너에 전달되면 publishedAt 이 채워짐
+ * 릴레이 전달이 계속 실패하면 attempts/lastError 가 쌓이고, 한도에 이르면 deadAt 이 채워져 릴레이에서 빠짐
+ */
+@Entity
+@Table(name = "domain_event_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private AggregateType aggregateType;
+
+    // 일괄 이벤트는 null
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private EventType eventType;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // JSON 문자열
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "dead_at")
+    private LocalDateTime deadAt;
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    public DomainEvent toEvent() {
+        return new DomainEvent(id, aggregateType, aggregateId, eventType, memberId, payload, createdAt);
+    }
+}
@@ -0,0 +1,91 @@
+package com.stg.sikboo.event.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 미전달 이벤트를 id 순으로 (부분 인덱스 idx_outbox_unpublished)
+    // - createdBefore: 커밋 직후 경로로 곧 전달될 최신 이벤트는 건너뜀
+    // - 격리된(dead_at) 이벤트는 제외
+    @Query(
+      value = """
+        SELECT e.*
+        FROM domain_event_outbox e
+        WHERE e.published_at IS NULL
+          AND e.dead_at IS NULL
+          AND e.event_id > :afterId
+          AND e.created_at < :createdBefore
+        ORDER BY e.event_id
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<OutboxEvent> findUnpublished(
+        @Param("afterId") long afterId,
+        @Param("createdBefore") LocalDateTime createdBefore,
+        @Param("limit") int limit
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :now WHERE e.id IN :ids AND e.publishedAt IS NULL")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 전달 실패 기록. maxAttempts 에 이르면 격리(dead_at). 갱신 후 시도 횟수 반환(행이 없으면 null)
+    @Transactional
+    @Query(
+      value = """
+        UPDATE domain_event_outbox
+        SET attempts = attempts + 1,
+            last_error = :error,
+            dead_at = CASE WHEN attempts + 1 >= :maxAttempts THEN :now ELSE NULL END
+        WHERE event_id = :id AND published_at IS NULL
+        RETURNING attempts
+      """,
+      nativeQuery = true
+    )
+    Integer recordFailure(
+        @Param("id") long id,
+        @Param("error") String error,
+        @Param("maxAttempts") int maxAttempts,
+        @Param("now") LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying
+    @Query(
+      value = """
+        DELETE FROM domain_event_outbox
+        WHERE event_id IN (
+          SELECT event_id FROM domain_event_outbox
+          WHERE published_at < :before
+          LIMIT :limit
+        )
+      """,
+      nativeQuery = true
+    )
+    int deletePublishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(
+      value = """
+        DELETE FROM domain_event_outbox
+        WHERE event_id IN (
+          SELECT event_id FROM domain_event_outbox
+          WHERE dead_at < :before
+          LIMIT :limit
+        )
+      """,
+      nativeQuery = true
+    )
+    int deleteDeadBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,95 @@
+package com.stg.sikboo.event.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.event.domain.DomainEvent;
+import com.stg.sikboo.event.domain.OutboxEvent;
+import com.stg.sikboo.event.domain.OutboxEventRepository;
+import com.stg.sikboo.event.service.DomainEventDispatcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 릴레이
+ * - 커밋 후 큐 전달에 실패했거나(큐 가득 참/리스너 실패/재시작) 남은 미전달 이벤트를 다시 보냄
+ * - 방금 만들어진 이벤트는 정상 경로로 곧 전달되므로 graceSeconds 이전 것만 다룸
+ * - 실패한 이벤트는 건너뛰고 다음 배치로 진행 (시도 횟수 기록, 한도 초과 시 격리 → 디스패처)
+ * - 전달된 지 오래된 행, 격리된 지 오래된 행은 조금씩 삭제
+ */
+@Slf4j
+@Component
+public class OutboxRelayScheduler {
+
+    private final OutboxEventRepository outboxRepo;
+    private final DomainEventDispatcher dispatcher;
+    private final int batchSize;
+    private final long graceSeconds;
+    private final int retentionDays;
+    private final int deadRetentionDays;
+
+    public OutboxRelayScheduler(
+            OutboxEventRepository outboxRepo,
+            DomainEventDispatcher dispatcher,
+            @Value("${app.events.batch-size:100}") int batchSize,
+            @Value("${app.events.relay-grace-seconds:30}") long graceSeconds,
+            @Value("${app.events.retention-days:7}") int retentionDays,
+            @Value("${app.events.dead-retention-days:30}") int deadRetentionDays
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.dispatcher = dispatcher;
+        this.batchSize = batchSize;
+        this.graceSeconds = graceSeconds;
+        this.retentionDays = retentionDays;
+        this.deadRetentionDays = deadRetentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.relay-delay-ms:30000}")
+    public void relay() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(graceSeconds);
+        long afterId = 0;
+        int relayed = 0;
+        int failed = 0;
+
+        while (true) {
+            List<OutboxEvent> rows = outboxRepo.findUnpublished(afterId, threshold, batchSize);
+            if (rows.isEmpty()) break;
+
+            List<DomainEvent> events = rows.stream().map(OutboxEvent::toEvent).toList();
+            // 실패한 이벤트는 미전달로 남기고(다음 회차 재시도) 뒤 배치로 넘어감
+            int delivered = dispatcher.relay(events);
+            relayed += delivered;
+            failed += events.size() - delivered;
+
+            afterId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < batchSize) break;
+        }
+
+        if (relayed > 0 || failed > 0) log.info("[outbox] 미전달 이벤트 재전송 {}건, 실패 {}건", relayed, failed);
+    }
+
+    @Scheduled(cron = "${app.events.cleanup-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int n;
+        do {
+            n = outboxRepo.deletePublishedBefore(before, 1000);
+            total += n;
+        } while (n == 1000);
+        if (total > 0) log.info("[outbox] 전달 완료 이벤트 정리 {}건", total);
+
+        // 격리 이벤트는 원인 확인용으로 더 오래 보관
+        LocalDateTime deadBefore = LocalDateTime.now().minusDays(deadRetentionDays);
+        int dead = 0;
+        do {
+            n = outboxRepo.deleteDeadBefore(deadBefore, 1000);
+            dead += n;
+        } while (n == 1000);
+        if (dead > 0) log.info("[outbox] 격리 이벤트 정리 {}건", dead);
+    }
+}
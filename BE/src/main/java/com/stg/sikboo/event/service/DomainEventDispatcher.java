@@ -0,0 +1,181 @@
+package com.stg.sikboo.event.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.event.domain.DomainEvent;
+import com.stg.sikboo.event.domain.OutboxEventRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 이벤트를 리스너에 전달하는 단일 워커
+ *
+ * - 유한 큐: 가득 차면 잠깐 기다린 뒤 포기 → 요청 스레드를 오래 붙잡지 않음 (행은 릴레이가 처리)
+ * - 워커는 큐에서 batchSize 만큼 모아 모든 리스너에 넘기고, 성공한 배치만 published 로 표시
+ * - 리스너가 실패한 배치는 표시하지 않으므로 릴레이가 나중에 다시 보냄
+ * - 릴레이 경로는 배치가 실패하면 한 건씩 다시 보내 실패 이벤트만 골라내고,
+ *   maxAttempts 회 실패한 이벤트는 격리 → 한 이벤트 때문에 뒤 이벤트가 막히지 않음
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+    private final OutboxEventRepository outboxRepo;
+    private final ObjectProvider<DomainEventListener> listeners;
+    private final BlockingQueue<DomainEvent> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final int maxAttempts;
+
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public DomainEventDispatcher(
+            OutboxEventRepository outboxRepo,
+            ObjectProvider<DomainEventListener> listeners,
+            @Value("${app.events.queue-capacity:10000}") int capacity,
+            @Value("${app.events.batch-size:100}") int batchSize,
+            @Value("${app.events.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${app.events.max-attempts:5}") int maxAttempts
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.listeners = listeners;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "domain-event-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    /** 커밋된 이벤트를 큐에 넣음. 못 넣으면 false (릴레이가 나중에 전달) */
+    public boolean enqueue(DomainEvent event) {
+        try {
+            if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long n = dropped.incrementAndGet();
+        if (n % 100 == 1) log.warn("[events] 큐 가득 참 → 릴레이로 넘김 (누적 {})", n);
+        return false;
+    }
+
+    /**
+     * 릴레이가 DB 에서 다시 읽은 이벤트를 워커를 거치지 않고 바로 전달
+     * 배치가 실패하면 한 건씩 보내고, 실패한 이벤트는 시도 횟수/사유를 기록(한도에 이르면 격리)
+     *
+     * @return 전달된 건수
+     */
+    public int relay(List<DomainEvent> events) {
+        if (events.isEmpty()) return 0;
+        if (notifyListeners(events) == null) {
+            markPublished(events);
+            return events.size();
+        }
+
+        int delivered = 0;
+        for (DomainEvent event : events) {
+            List<DomainEvent> single = List.of(event);
+            RuntimeException error = notifyListeners(single);
+            if (error == null) {
+                markPublished(single);
+                delivered++;
+            } else {
+                recordFailure(event, error);
+            }
+        }
+        return delivered;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<DomainEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                DomainEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.warn("[events] 디스패치 루프 오류: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<DomainEvent> events) {
+        if (events.isEmpty()) return;
+        RuntimeException error = notifyListeners(events);
+        if (error != null) {
+            log.warn("[events] 리스너 실패 {}건 → 릴레이 재시도: {}", events.size(), error.getMessage());
+            return;
+        }
+        markPublished(events);
+    }
+
+    // 모든 리스너에 전달. 실패하면 그 예외
+    private RuntimeException notifyListeners(List<DomainEvent> events) {
+        try {
+            listeners.orderedStream().forEach(l -> l.onEvents(events));
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private void markPublished(List<DomainEvent> events) {
+        List<Long> ids = events.stream().map(DomainEvent::id).toList();
+        outboxRepo.markPublished(ids, LocalDateTime.now());
+        long total = dispatched.addAndGet(events.size());
+        log.debug("[events] 전달 {}건 (누적 {})", events.size(), total);
+    }
+
+    private void recordFailure(DomainEvent event, RuntimeException error) {
+        String reason = error.getMessage() == null ? error.getClass().getName() : error.getMessage();
+        if (reason.length() > 500) reason = reason.substring(0, 500);
+
+        Integer attempts = outboxRepo.recordFailure(event.id(), reason, maxAttempts, LocalDateTime.now());
+        if (attempts == null) return;
+        if (attempts >= maxAttempts) {
+            log.error("[events] 이벤트 {} ({} {}) {}회 실패 → 격리: {}",
+                    event.id(), event.aggregateType(), event.eventType(), attempts, reason);
+        } else {
+            log.warn("[events] 이벤트 {} 전달 실패 {}/{}회: {}", event.id(), attempts, maxAttempts, reason);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.stg.sikboo.event.service;
+
+import java.util.List;
+
+import com.stg.sikboo.event.domain.DomainEvent;
+
+/**
+ * 도메인 이벤트 소비자 (빈으로 등록하면 디스패처가 자동으로 찾아 전달)
+ * - 배치 단위로 호출되며, 적어도 한 번 전달되므로 이벤트 id 기준 멱등 처리 필요
+ * - 예외를 던지면 해당 배치는 미전달로 남아 릴레이가 다시 보냄
+ */
+public interface DomainEventListener {
+
+    void onEvents(List<DomainEvent> events);
+}
@@ -0,0 +1,65 @@
+package com.stg.sikboo.event.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.domain.OutboxEvent;
+import com.stg.sikboo.event.domain.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도메인 이벤트 발행
+ *
+ * - 호출한 쪽 트랜잭션 안에서 아웃박스 행을 저장 → 도메인 변경과 함께 커밋/롤백
+ * - 커밋 직후 디스패처 큐에 넣어 바로 전달 (롤백되면 아무 일도 없음)
+ * - 큐가 가득 찼거나 서버가 죽어도 행은 남아 있으므로 OutboxRelayScheduler 가 다시 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxRepo;
+    private final DomainEventDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    public void publish(AggregateType aggregateType, Long aggregateId, EventType eventType,
+                        Long memberId, Object payload) {
+        OutboxEvent saved = outboxRepo.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .memberId(memberId)
+                .payload(toJson(payload))
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.enqueue(saved.toEvent());
+                }
+            });
+        } else {
+            dispatcher.enqueue(saved.toEvent());
+        }
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) return null;
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            // 페이로드 때문에 본 작업을 실패시키지 않음
+            log.warn("[outbox] payload 직렬화 실패: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.stg.sikboo.groupbuying.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 마감 일괄 처리(UPDATE ... RETURNING)로 실제 마감된 행 (CLOSED 이벤트 발행용 값만)
+ */
+public interface ClosedGroupBuyingRow {
+    Long getId();
+    Long getMemberId();
+    String getCategory();
+    BigDecimal getLat();
+    BigDecimal getLng();
+    // deadline 을 LocalDateTime 문자열 형식(ISO)으로
+    String getDeadline();
+}
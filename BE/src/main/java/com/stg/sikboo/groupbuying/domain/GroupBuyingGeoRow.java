@@ -0,0 +1,14 @@
+package com.stg.sikboo.groupbuying.domain;
+
+/**
+ * 위치 인덱스 적재용 프로젝션 (좌표/카테고리/상태/마감만)
+ */
+public interface GroupBuyingGeoRow {
+    Long getId();
+    Double getLat();
+    Double getLng();
+    String getCategory();
+    String getStatus();
+    // deadline(TIMESTAMP, 로컬 시각)을 UTC 로 간주한 epoch 초 → LocalDateTime.toEpochSecond(UTC) 와 비교
+    Long getDeadlineEpoch();
+}
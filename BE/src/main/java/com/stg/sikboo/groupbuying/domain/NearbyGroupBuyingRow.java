@@ -0,0 +1,9 @@
+package com.stg.sikboo.groupbuying.domain;
+
+/**
+ * 위치 기반 검색 결과 (id + 거리만, 엔티티는 페이지 분량만 따로 조회)
+ */
+public interface NearbyGroupBuyingRow {
+    Long getId();
+    Double getDistanceKm();
+}
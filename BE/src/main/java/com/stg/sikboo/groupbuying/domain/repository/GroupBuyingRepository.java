@@ -1,7 +1,9 @@
 package com.stg.sikboo.groupbuying.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +11,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.stg.sikboo.groupbuying.domain.ClosedGroupBuyingRow;
 import com.stg.sikboo.groupbuying.domain.GroupBuying;
+import com.stg.sikboo.groupbuying.domain.GroupBuyingGeoRow;
+import com.stg.sikboo.groupbuying.domain.NearbyGroupBuyingRow;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
 
@@ -35,72 +40,348 @@ public interface GroupBuyingRepository extends JpaRepository<GroupBuying, Long>
      * 특정 상태이면서 마감 시간이 지난 공동구매 목록 조회 (스케줄러용)
      */
     List<GroupBuying> findByStatusAndDeadlineBefore(Status status, LocalDateTime deadline);
+
+    /**
+     * 마감 시간이 지난 모집중 id (정리 스윕용, id 순 키셋)
+     */
+    @Query("""
+        SELECT gb.groupBuyingId FROM GroupBuying gb
+        WHERE gb.status = :status AND gb.deadline <= :now AND gb.groupBuyingId > :afterId
+        ORDER BY gb.groupBuyingId
+        """)
+    List<Long> findExpiredIds(
+            @Param("status") Status status,
+            @Param("now") LocalDateTime now,
+            @Param("afterId") long afterId,
+            Pageable pageable);
+
+    /**
+     * 마감 일괄 처리: 아직 모집중이고 마감 시간이 지난 것만 (그 사이 수정/마감된 행은 건너뜀)
+     * 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 updated_at 도 직접 갱신
+     * RETURNING 으로 이번 UPDATE 가 실제로 바꾼 행만 돌려받음 (다시 조회해서 비교하지 않음)
+     * status 는 enum name() 문자열로 전달
+     */
+    @Query(
+      value = """
+        UPDATE groupbuying
+        SET status = :closed, updated_at = :now
+        WHERE groupbuying_id IN (:ids) AND status = :recruiting AND deadline <= :now
+        RETURNING groupbuying_id AS "id",
+                  member_id AS "memberId",
+                  category AS "category",
+                  pickup_latitude AS "lat",
+                  pickup_longitude AS "lng",
+                  to_char(deadline, 'YYYY-MM-DD"T"HH24:MI:SS') AS "deadline"
+      """,
+      nativeQuery = true
+    )
+    List<ClosedGroupBuyingRow> closeExpired(
+            @Param("ids") Collection<Long> ids,
+            @Param("recruiting") String recruiting,
+            @Param("closed") String closed,
+            @Param("now") LocalDateTime now);
+
+    // ---------- 목록 응답용: 주최자(member)를 같은 쿼리로 (N+1 방지), 정렬은 DB 에서 ----------
+
+    @Query("SELECT gb FROM GroupBuying gb JOIN FETCH gb.member WHERE gb.groupBuyingId = :id")
+    Optional<GroupBuying> findWithMemberById(@Param("id") Long id);
+
+    @Query("SELECT gb FROM GroupBuying gb JOIN FETCH gb.member WHERE gb.groupBuyingId IN :ids")
+    List<GroupBuying> findAllWithMemberByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ---------- 커서 목록: (created_at, id) 내림차순 키셋, 첫 페이지는 최대값 커서 ----------
+    // pageable 은 크기 제한용(PageRequest.of(0, size + 1))
+
+    @Query("""
+        SELECT gb FROM GroupBuying gb JOIN FETCH gb.member
+        WHERE (gb.createdAt, gb.groupBuyingId) < (:cursorAt, :cursorId)
+        ORDER BY gb.createdAt DESC, gb.groupBuyingId DESC
+        """)
+    List<GroupBuying> findSliceWithMember(
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("""
+        SELECT gb FROM GroupBuying gb JOIN FETCH gb.member
+        WHERE gb.status = :status AND gb.deadline > :now
+          AND (gb.createdAt, gb.groupBuyingId) < (:cursorAt, :cursorId)
+        ORDER BY gb.createdAt DESC, gb.groupBuyingId DESC
+        """)
+    List<GroupBuying> findActiveSliceWithMember(
+            @Param("status") Status status,
+            @Param("now") LocalDateTime now,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("""
+        SELECT gb FROM GroupBuying gb JOIN FETCH gb.member
+        WHERE gb.category = :category
+          AND (gb.createdAt, gb.groupBuyingId) < (:cursorAt, :cursorId)
+        ORDER BY gb.createdAt DESC, gb.groupBuyingId DESC
+        """)
+    List<GroupBuying> findCategorySliceWithMember(
+            @Param("category") Category category,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("""
+        SELECT gb FROM GroupBuying gb JOIN FETCH gb.member m
+        WHERE m.id = :memberId
+          AND (gb.createdAt, gb.groupBuyingId) < (:cursorAt, :cursorId)
+        ORDER BY gb.createdAt DESC, gb.groupBuyingId DESC
+        """)
+    List<GroupBuying> findMemberSliceWithMember(
+            @Param("memberId") Long memberId,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
     
     /**
-     * 통합 필터링 및 페이징 조회 (거리 계산 포함)
-     * Haversine 공식으로 거리 계산: (6371 * acos(cos(radians(lat)) * cos(radians(pickupLat)) * cos(radians(pickupLng) - radians(lng)) + sin(radians(lat)) * sin(radians(pickupLat))))
-     * 
-     * @param search 검색어 (제목)
+     * 통합 필터링 및 페이징 조회 (위치 미지정: 최신순)
+     *
+     * @param search 검색어 (제목, 빈 문자열이면 전체)
      * @param category 카테고리 (null이면 전체)
      * @param status 상태 (null이면 전체)
-     * @param userLat 사용자 위도 (null이면 거리 필터 미적용)
-     * @param userLng 사용자 경도 (null이면 거리 필터 미적용)
-     * @param maxDistance 최대 거리 (km) (null이면 거리 필터 미적용)
-     * @param pageable 페이징 정보
-     * @return 필터링된 공동구매 목록 (거리 정보 포함)
      */
     @Query(value = """
-        SELECT gb, 
-        CASE 
-            WHEN :userLat IS NULL OR :userLng IS NULL THEN NULL
-            ELSE (6371 * acos(
-                cos(radians(:userLat)) * cos(radians(CAST(gb.pickupLatitude AS double))) * 
-                cos(radians(CAST(gb.pickupLongitude AS double)) - radians(:userLng)) + 
-                sin(radians(:userLat)) * sin(radians(CAST(gb.pickupLatitude AS double)))
-            ))
-        END as distance
-        FROM GroupBuying gb
-        WHERE (:search IS NULL OR :search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
+        SELECT gb
+        FROM GroupBuying gb JOIN FETCH gb.member
+        WHERE (:search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
         AND (:category IS NULL OR gb.category = :category)
         AND (:status IS NULL OR gb.status = :status)
-        AND (:userLat IS NULL OR :userLng IS NULL OR :maxDistance IS NULL OR
-            (6371 * acos(
-                cos(radians(:userLat)) * cos(radians(CAST(gb.pickupLatitude AS double))) * 
-                cos(radians(CAST(gb.pickupLongitude AS double)) - radians(:userLng)) + 
-                sin(radians(:userLat)) * sin(radians(CAST(gb.pickupLatitude AS double)))
-            )) <= :maxDistance)
-        ORDER BY 
-            CASE 
-                WHEN :userLat IS NOT NULL AND :userLng IS NOT NULL THEN 
-                    (6371 * acos(
-                        cos(radians(:userLat)) * cos(radians(CAST(gb.pickupLatitude AS double))) * 
-                        cos(radians(CAST(gb.pickupLongitude AS double)) - radians(:userLng)) + 
-                        sin(radians(:userLat)) * sin(radians(CAST(gb.pickupLatitude AS double)))
-                    ))
-                ELSE 999999
-            END ASC,
-            gb.createdAt DESC
+        ORDER BY gb.createdAt DESC
         """,
         countQuery = """
         SELECT COUNT(gb)
         FROM GroupBuying gb
-        WHERE (:search IS NULL OR :search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
+        WHERE (:search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
         AND (:category IS NULL OR gb.category = :category)
         AND (:status IS NULL OR gb.status = :status)
-        AND (:userLat IS NULL OR :userLng IS NULL OR :maxDistance IS NULL OR
-            (6371 * acos(
-                cos(radians(:userLat)) * cos(radians(CAST(gb.pickupLatitude AS double))) * 
-                cos(radians(CAST(gb.pickupLongitude AS double)) - radians(:userLng)) + 
-                sin(radians(:userLat)) * sin(radians(CAST(gb.pickupLatitude AS double)))
-            )) <= :maxDistance)
         """)
-    Page<Object[]> findWithFiltersAndDistance(
+    Page<GroupBuying> findWithFilters(
             @Param("search") String search,
             @Param("category") Category category,
             @Param("status") Status status,
-            @Param("userLat") Double userLat,
-            @Param("userLng") Double userLng,
-            @Param("maxDistance") Double maxDistance,
             Pageable pageable
     );
+
+    /**
+     * 통합 필터링 커서 조회 (위치 미지정: 최신순, count 없음)
+     * - (created_at, id) 내림차순 키셋, pageable 은 크기 제한용(size + 1)
+     */
+    @Query("""
+        SELECT gb FROM GroupBuying gb JOIN FETCH gb.member
+        WHERE (:search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category IS NULL OR gb.category = :category)
+          AND (:status IS NULL OR gb.status = :status)
+          AND (gb.createdAt, gb.groupBuyingId) < (:cursorAt, :cursorId)
+        ORDER BY gb.createdAt DESC, gb.groupBuyingId DESC
+        """)
+    List<GroupBuying> findSliceWithFilters(
+            @Param("search") String search,
+            @Param("category") Category category,
+            @Param("status") Status status,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 반경 내 가까운 순 (PostGIS)
+     * - ST_DWithin: idx_groupbuying_location(GIST) 로 반경 후보만 읽음
+     * - <-> : 같은 인덱스로 KNN 정렬
+     * - 거리는 구면 기준(km), 문자열 파라미터는 빈 문자열이면 필터 미적용
+     */
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               ST_Distance(g.pickup_location_point, ref.pt, false) / 1000.0 AS "distanceKm"
+        FROM groupbuying g,
+             (SELECT CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS pt) ref
+        WHERE ST_DWithin(g.pickup_location_point, ref.pt, :radiusM, false)
+          AND (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+        ORDER BY g.pickup_location_point <-> ref.pt, g.created_at DESC
+        LIMIT :limit OFFSET :offset
+      """,
+      nativeQuery = true
+    )
+    List<NearbyGroupBuyingRow> findNearbyWithin(
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("radiusM") double radiusM,
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
+
+    @Query(
+      value = """
+        SELECT COUNT(*)
+        FROM groupbuying g
+        WHERE ST_DWithin(g.pickup_location_point,
+                         CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusM, false)
+          AND (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+      """,
+      nativeQuery = true
+    )
+    long countNearbyWithin(
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("radiusM") double radiusM,
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status
+    );
+
+    /**
+     * 반경 제한 없이 가까운 순 (KNN 인덱스 순회, 페이지 분량만 읽음)
+     */
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               ST_Distance(g.pickup_location_point, ref.pt, false) / 1000.0 AS "distanceKm"
+        FROM groupbuying g,
+             (SELECT CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS pt) ref
+        WHERE (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+        ORDER BY g.pickup_location_point <-> ref.pt, g.created_at DESC
+        LIMIT :limit OFFSET :offset
+      """,
+      nativeQuery = true
+    )
+    List<NearbyGroupBuyingRow> findNearest(
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status,
+        @Param("limit") int limit,
+        @Param("offset") long offset
+    );
+
+    @Query(
+      value = """
+        SELECT COUNT(*)
+        FROM groupbuying g
+        WHERE (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+      """,
+      nativeQuery = true
+    )
+    long countWithFilters(
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status
+    );
+
+    // ---------- 위치 기반 커서 조회: (거리 ASC, created_at DESC, id DESC) 키셋, count 없음 ----------
+    // 정렬과 커서 비교를 같은 식((<->) / 1000.0, km)으로 해서 경계 행이 빠지거나 중복되지 않음
+    // (미터로 정렬하면 km 로 나눈 값이 같아지는 두 행의 순서가 커서 비교와 어긋날 수 있음)
+    // 첫 페이지는 cursorKm = -1
+
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               (g.pickup_location_point <-> ref.pt) / 1000.0 AS "distanceKm"
+        FROM groupbuying g,
+             (SELECT CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS pt) ref
+        WHERE ST_DWithin(g.pickup_location_point, ref.pt, :radiusM, false)
+          AND (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+          AND ((g.pickup_location_point <-> ref.pt) / 1000.0 > :cursorKm
+               OR ((g.pickup_location_point <-> ref.pt) / 1000.0 = :cursorKm
+                   AND (g.created_at, g.groupbuying_id) < (:cursorAt, :cursorId)))
+        ORDER BY (g.pickup_location_point <-> ref.pt) / 1000.0, g.created_at DESC, g.groupbuying_id DESC
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<NearbyGroupBuyingRow> findNearbySliceWithin(
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("radiusM") double radiusM,
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status,
+        @Param("cursorKm") double cursorKm,
+        @Param("cursorAt") LocalDateTime cursorAt,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               (g.pickup_location_point <-> ref.pt) / 1000.0 AS "distanceKm"
+        FROM groupbuying g,
+             (SELECT CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS pt) ref
+        WHERE (:search = '' OR LOWER(g.title) LIKE LOWER(CONCAT('%', :search, '%')))
+          AND (:category = '' OR g.category = :category)
+          AND (:status = '' OR g.status = :status)
+          AND ((g.pickup_location_point <-> ref.pt) / 1000.0 > :cursorKm
+               OR ((g.pickup_location_point <-> ref.pt) / 1000.0 = :cursorKm
+                   AND (g.created_at, g.groupbuying_id) < (:cursorAt, :cursorId)))
+        ORDER BY (g.pickup_location_point <-> ref.pt) / 1000.0, g.created_at DESC, g.groupbuying_id DESC
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<NearbyGroupBuyingRow> findNearestSlice(
+        @Param("lat") double lat,
+        @Param("lng") double lng,
+        @Param("search") String search,
+        @Param("category") String category,
+        @Param("status") String status,
+        @Param("cursorKm") double cursorKm,
+        @Param("cursorAt") LocalDateTime cursorAt,
+        @Param("cursorId") long cursorId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 위치 인덱스 초기 적재: 모집중 행을 id 순 키셋으로
+     */
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               CAST(g.pickup_latitude AS double precision)  AS "lat",
+               CAST(g.pickup_longitude AS double precision) AS "lng",
+               g.category AS "category", g.status AS "status", CAST(EXTRACT(EPOCH FROM g.deadline) AS bigint) AS "deadlineEpoch"
+        FROM groupbuying g
+        WHERE g.status = 'RECRUITING'
+          AND g.groupbuying_id > :afterId
+        ORDER BY g.groupbuying_id
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<GroupBuyingGeoRow> findRecruitingGeoRows(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 위치 인덱스 갱신: 이벤트로 바뀐 행만 현재 값으로 다시 읽음 (없는 id 는 삭제된 것)
+     */
+    @Query(
+      value = """
+        SELECT g.groupbuying_id AS "id",
+               CAST(g.pickup_latitude AS double precision)  AS "lat",
+               CAST(g.pickup_longitude AS double precision) AS "lng",
+               g.category AS "category", g.status AS "status", CAST(EXTRACT(EPOCH FROM g.deadline) AS bigint) AS "deadlineEpoch"
+        FROM groupbuying g
+        WHERE g.groupbuying_id IN (:ids)
+      """,
+      nativeQuery = true
+    )
+    List<GroupBuyingGeoRow> findGeoRowsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,42 @@
+package com.stg.sikboo.groupbuying.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 마커 클러스터 응답 DTO
+ * - clusters: 격자 칸별 개수 + 무게중심
+ * - points: 개수가 적은 칸은 개별 좌표로
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupBuyingClusterResponse {
+
+    private int zoom;
+    private List<Cluster> clusters;
+    private List<Point> points;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        private double lat;
+        private double lng;
+        private int count;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private long id;
+        private double lat;
+        private double lng;
+    }
+}
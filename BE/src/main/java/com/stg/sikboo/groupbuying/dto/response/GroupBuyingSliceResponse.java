@@ -0,0 +1,24 @@
+package com.stg.sikboo.groupbuying.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 목록 응답 DTO (최신순)
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupBuyingSliceResponse {
+
+    private List<GroupBuyingResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,225 @@
+package com.stg.sikboo.groupbuying.infra;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.DomainEvent;
+import com.stg.sikboo.event.service.DomainEventListener;
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
+import com.stg.sikboo.groupbuying.domain.GroupBuyingGeoRow;
+import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
+import com.stg.sikboo.groupbuying.service.GroupBuyingSchedulerService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모집중 공동구매 정시 마감 타이머
+ *
+ * - 마감 시각(초) → id 묶음을 정렬 맵으로 보관, 워커 하나가 가장 이른 마감까지 잠들었다가 깨어남
+ *   (DelayQueue 는 id 단위 취소가 O(n) 이라 마감 변경/삭제가 잦으면 불리)
+ * - 같은 시각에 마감되는 것은 UPDATE 한 번으로 처리
+ * - 시작 시 DB 에서 적재, 이후 공동구매 이벤트를 받으면 해당 id 만 DB 값으로 다시 맞춤
+ * - 처리 실패/유실은 GroupBuyingScheduler 의 정리 스윕이 메움
+ */
+@Slf4j
+@Component
+public class DeadlineTimer implements DomainEventListener {
+
+    private static final int LOAD_BATCH = 5000;
+
+    private final GroupBuyingRepository groupBuyingRepository;
+    private final GroupBuyingSchedulerService schedulerService;
+    private final int fireBatch;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // 발화 시각(epoch 초) → id
+    private final TreeMap<Long, Set<Long>> byFireAt = new TreeMap<>();
+    // id → 발화 시각 (마감 변경/삭제 시 이전 자리를 찾기 위함)
+    private final Map<Long, Long> fireAtById = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public DeadlineTimer(
+            GroupBuyingRepository groupBuyingRepository,
+            GroupBuyingSchedulerService schedulerService,
+            @Value("${app.groupbuying.deadline-timer.fire-batch:500}") int fireBatch
+    ) {
+        this.groupBuyingRepository = groupBuyingRepository;
+        this.schedulerService = schedulerService;
+        this.fireBatch = fireBatch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.lock();
+        try {
+            byFireAt.clear();
+            fireAtById.clear();
+            long afterId = 0;
+            while (true) {
+                List<GroupBuyingGeoRow> rows = groupBuyingRepository.findRecruitingGeoRows(afterId, LOAD_BATCH);
+                rows.forEach(this::apply);
+                if (rows.size() < LOAD_BATCH) break;
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info("[마감 타이머] 적재 완료: 모집중 {}건", size());
+
+        running = true;
+        worker = new Thread(this::runLoop, "groupbuying-deadline-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return fireAtById.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------- 이벤트 반영 ----------
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<Long> touched = new LinkedHashSet<>();
+        for (DomainEvent e : events) {
+            // 마감 시각/상태는 공동구매 생성·수정·삭제·마감에서만 바뀜
+            if (e.aggregateId() != null && e.is(AggregateType.GROUP_BUYING)) touched.add(e.aggregateId());
+        }
+        if (!touched.isEmpty()) refresh(touched);
+    }
+
+    /** 주어진 id 들을 DB 현재 값으로 다시 맞춤 (없거나 모집중이 아니면 제거) */
+    public void refresh(Set<Long> ids) {
+        List<GroupBuyingGeoRow> rows = groupBuyingRepository.findGeoRowsByIds(ids);
+        lock.lock();
+        try {
+            Set<Long> remaining = new LinkedHashSet<>(ids);
+            for (GroupBuyingGeoRow row : rows) {
+                remaining.remove(row.getId());
+                apply(row);
+            }
+            remaining.forEach(this::remove);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(GroupBuyingGeoRow row) {
+        if (!Status.RECRUITING.name().equals(row.getStatus()) || row.getDeadlineEpoch() == null) {
+            remove(row.getId());
+            return;
+        }
+        // epoch 은 초 단위 반올림값이라 1초 뒤에 발화 (마감 전 UPDATE 는 조건에서 빠지므로)
+        long fireAt = row.getDeadlineEpoch() + 1;
+        Long prev = fireAtById.put(row.getId(), fireAt);
+        if (prev != null && prev == fireAt) return;
+        if (prev != null) unlink(prev, row.getId());
+        byFireAt.computeIfAbsent(fireAt, k -> new LinkedHashSet<>()).add(row.getId());
+    }
+
+    private void remove(Long id) {
+        Long prev = fireAtById.remove(id);
+        if (prev != null) unlink(prev, id);
+    }
+
+    private void unlink(long fireAt, Long id) {
+        Set<Long> ids = byFireAt.get(fireAt);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) byFireAt.remove(fireAt);
+    }
+
+    // ---------- 발화 ----------
+
+    private void runLoop() {
+        while (running) {
+            try {
+                List<Long> due = awaitDue();
+                if (due.isEmpty()) continue;
+                int closed = schedulerService.closeDue(due);
+                log.debug("[마감 타이머] 마감 처리 {}건 / 대상 {}건", closed, due.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 꺼낸 id 는 다시 넣지 않음 (같은 실패 반복 방지) → 정리 스윕이 처리
+                log.warn("[마감 타이머] 마감 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 가장 이른 발화 시각까지 기다렸다가, 시각이 된 id 를 최대 fireBatch 건 꺼냄
+    private List<Long> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            Map.Entry<Long, Set<Long>> first = byFireAt.firstEntry();
+            long nowMs = nowEpochMillis();
+            if (first == null) {
+                changed.await(1, TimeUnit.MINUTES);
+                return List.of();
+            }
+            long waitMs = first.getKey() * 1000 - nowMs;
+            if (waitMs > 0) {
+                // 더 이른 마감이 들어오면 signal 로 깨어나 다시 계산
+                changed.await(waitMs, TimeUnit.MILLISECONDS);
+                return List.of();
+            }
+
+            long nowSec = nowMs / 1000;
+            List<Long> due = new ArrayList<>();
+            Iterator<Map.Entry<Long, Set<Long>>> it = byFireAt.headMap(nowSec, true).entrySet().iterator();
+            while (it.hasNext() && due.size() < fireBatch) {
+                Set<Long> ids = it.next().getValue();
+                Iterator<Long> idIt = ids.iterator();
+                while (idIt.hasNext() && due.size() < fireBatch) {
+                    Long id = idIt.next();
+                    idIt.remove();
+                    fireAtById.remove(id);
+                    due.add(id);
+                }
+                if (ids.isEmpty()) it.remove();
+            }
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // deadlineEpoch 은 LocalDateTime 을 UTC 로 본 값이므로 현재 시각도 같은 기준으로
+    private static long nowEpochMillis() {
+        return LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
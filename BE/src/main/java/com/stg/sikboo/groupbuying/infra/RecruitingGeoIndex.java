@@ -0,0 +1,339 @@
+package com.stg.sikboo.groupbuying.infra;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.DomainEvent;
+import com.stg.sikboo.event.service.DomainEventListener;
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
+import com.stg.sikboo.groupbuying.domain.GroupBuyingGeoRow;
+import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모집중 공동구매 메모리 위치 인덱스 ("내 주변 모집중" 검색 전용)
+ *
+ * - 위경도 격자(약 1.1km) 칸마다 id/위도/경도/카테고리/마감 을 원시 배열로 보관
+ * - 칸 배열은 불변(쓰기 시 그 칸만 복사) → 조회는 락 없이 읽음
+ * - 시작 시 DB 에서 적재, 이후 공동구매/참여 이벤트를 받으면 해당 id 만 DB 값으로 다시 맞춤
+ *   (이벤트 순서/중복과 무관하게 현재 상태로 수렴)
+ * - 적재 전에는 ready() == false → 호출 쪽이 DB 검색으로 처리
+ */
+@Slf4j
+@Component
+public class RecruitingGeoIndex implements DomainEventListener {
+
+    // 격자 크기(도). 위도 0.01° ≈ 1.1km
+    private static final double CELL_DEG = 0.01;
+    private static final int LOAD_BATCH = 5000;
+    // PostGIS 구면 거리(use_spheroid=false)와 같은 반지름
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final Category[] CATEGORIES = Category.values();
+
+    /** 검색 결과 한 건 */
+    public record Hit(long id, double distanceKm) {}
+
+    /** 영역 순회 콜백 (객체 생성 없이 좌표를 넘김) */
+    @FunctionalInterface
+    public interface PointVisitor {
+        void accept(long id, double lat, double lng);
+    }
+
+    /** 칸 하나의 불변 스냅샷 */
+    private record Cell(long[] ids, double[] lat, double[] lng, byte[] category, long[] deadline) {
+        static final Cell EMPTY = new Cell(new long[0], new double[0], new double[0], new byte[0], new long[0]);
+
+        int size() {
+            return ids.length;
+        }
+
+        int indexOf(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) return i;
+            }
+            return -1;
+        }
+
+        Cell without(long id) {
+            int idx = indexOf(id);
+            if (idx < 0) return this;
+            int n = ids.length - 1;
+            if (n == 0) return null;
+            return new Cell(remove(ids, idx), remove(lat, idx), remove(lng, idx), remove(category, idx), remove(deadline, idx));
+        }
+
+        Cell with(long id, double la, double ln, byte cat, long dl) {
+            Cell base = without(id);
+            if (base == null) base = EMPTY;
+            int n = base.size();
+            long[] i2 = Arrays.copyOf(base.ids, n + 1);
+            double[] la2 = Arrays.copyOf(base.lat, n + 1);
+            double[] ln2 = Arrays.copyOf(base.lng, n + 1);
+            byte[] c2 = Arrays.copyOf(base.category, n + 1);
+            long[] d2 = Arrays.copyOf(base.deadline, n + 1);
+            i2[n] = id;
+            la2[n] = la;
+            ln2[n] = ln;
+            c2[n] = cat;
+            d2[n] = dl;
+            return new Cell(i2, la2, ln2, c2, d2);
+        }
+    }
+
+    private final GroupBuyingRepository groupBuyingRepository;
+
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    // id → 소속 칸 (이동/삭제 시 이전 칸을 찾기 위함)
+    private final Map<Long, Long> cellOfId = new ConcurrentHashMap<>();
+    // 쓰기 직렬화 (쓰기는 드물고 조회는 락 없음)
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready;
+    // 쓰기마다 증가 (지도 타일 캐시 무효화 기준)
+    private final AtomicLong version = new AtomicLong();
+
+    public RecruitingGeoIndex(GroupBuyingRepository groupBuyingRepository) {
+        this.groupBuyingRepository = groupBuyingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.nanoTime();
+        synchronized (writeLock) {
+            cells.clear();
+            cellOfId.clear();
+            long afterId = 0;
+            while (true) {
+                List<GroupBuyingGeoRow> rows = groupBuyingRepository.findRecruitingGeoRows(afterId, LOAD_BATCH);
+                rows.forEach(this::apply);
+                if (rows.size() < LOAD_BATCH) break;
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            ready = true;
+        }
+        log.info("[위치 인덱스] 적재 완료: 모집중 {}건, 칸 {}개, {}ms",
+                cellOfId.size(), cells.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    public int size() {
+        return cellOfId.size();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 위경도 사각형 안의 모집중(마감 전) 공동구매를 순회 (순서 없음)
+     * 경계는 [min, max) 반개구간 → 맞닿은 두 사각형(타일)에 같은 점이 두 번 들어가지 않음
+     *
+     * @param category null 이면 전체
+     */
+    public void scanBox(double minLat, double minLng, double maxLat, double maxLng,
+                        Category category, PointVisitor visitor) {
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        int cat = category == null ? -1 : category.ordinal();
+
+        for (Cell c : cellsIn(cellIndex(minLat), cellIndex(maxLat), cellIndex(minLng), cellIndex(maxLng))) {
+            for (int i = 0; i < c.size(); i++) {
+                if (cat >= 0 && c.category[i] != cat) continue;
+                if (c.deadline[i] <= now) continue;
+                double la = c.lat[i];
+                double ln = c.lng[i];
+                if (la < minLat || la >= maxLat || ln < minLng || ln >= maxLng) continue;
+                visitor.accept(c.ids[i], la, ln);
+            }
+        }
+    }
+
+    /**
+     * 반경 내 모집중(마감 전) 공동구매를 가까운 순(같으면 최신 id 순)으로 전부 반환
+     *
+     * @param category null 이면 전체
+     */
+    public List<Hit> search(double lat, double lng, double radiusKm, Category category) {
+        double latDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lngDelta = cosLat < 1e-6 ? 180 : Math.min(180, latDelta / cosLat);
+
+        int minLatCell = cellIndex(lat - latDelta);
+        int maxLatCell = cellIndex(lat + latDelta);
+        int minLngCell = cellIndex(lng - lngDelta);
+        int maxLngCell = cellIndex(lng + lngDelta);
+
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        int cat = category == null ? -1 : category.ordinal();
+
+        long[] ids = new long[16];
+        double[] dist = new double[16];
+        int n = 0;
+
+        for (Cell c : cellsIn(minLatCell, maxLatCell, minLngCell, maxLngCell)) {
+            for (int i = 0; i < c.size(); i++) {
+                if (cat >= 0 && c.category[i] != cat) continue;
+                if (c.deadline[i] <= now) continue;   // GroupBuying.isRecruiting 과 같은 기준
+                double d = haversineKm(lat, lng, c.lat[i], c.lng[i]);
+                if (d > radiusKm) continue;
+                if (n == ids.length) {
+                    ids = Arrays.copyOf(ids, n * 2);
+                    dist = Arrays.copyOf(dist, n * 2);
+                }
+                ids[n] = c.ids[i];
+                dist[n] = d;
+                n++;
+            }
+        }
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        final long[] fIds = ids;
+        final double[] fDist = dist;
+        Arrays.sort(order, (a, b) -> {
+            int cmp = Double.compare(fDist[a], fDist[b]);
+            return cmp != 0 ? cmp : Long.compare(fIds[b], fIds[a]);
+        });
+
+        List<Hit> hits = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) hits.add(new Hit(ids[order[i]], dist[order[i]]));
+        return hits;
+    }
+
+    // 칸 범위 안의 비어있지 않은 칸들
+    // 범위가 아주 크면 칸 좌표를 하나씩 찾는 것보다 있는 칸을 전부 도는 편이 빠름
+    private List<Cell> cellsIn(int minLatCell, int maxLatCell, int minLngCell, int maxLngCell) {
+        long span = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+        List<Cell> result = new ArrayList<>();
+        if (span > cells.size()) {
+            result.addAll(cells.values());
+            return result;
+        }
+        for (int la = minLatCell; la <= maxLatCell; la++) {
+            for (int ln = minLngCell; ln <= maxLngCell; ln++) {
+                Cell c = cells.get(cellKey(la, ln));
+                if (c != null) result.add(c);
+            }
+        }
+        return result;
+    }
+
+    // ---------- 이벤트 반영 ----------
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<Long> touched = new LinkedHashSet<>();
+        for (DomainEvent e : events) {
+            if (e.aggregateId() == null) continue;
+            if (e.is(AggregateType.GROUP_BUYING) || e.is(AggregateType.PARTICIPANT)) {
+                touched.add(e.aggregateId());
+            }
+        }
+        // 적재 중이면 쓰기 락에서 기다렸다가 DB 값으로 맞추므로 놓치는 변경 없음
+        if (!touched.isEmpty()) refresh(touched);
+    }
+
+    /** 주어진 id 들을 DB 현재 값으로 다시 맞춤 (없거나 모집중이 아니면 제거) */
+    public void refresh(Set<Long> ids) {
+        synchronized (writeLock) {
+            List<GroupBuyingGeoRow> rows = groupBuyingRepository.findGeoRowsByIds(ids);
+            Set<Long> remaining = new LinkedHashSet<>(ids);
+            for (GroupBuyingGeoRow row : rows) {
+                remaining.remove(row.getId());
+                apply(row);
+            }
+            remaining.forEach(this::remove);
+        }
+    }
+
+    private void apply(GroupBuyingGeoRow row) {
+        if (!Status.RECRUITING.name().equals(row.getStatus())
+                || row.getLat() == null || row.getLng() == null) {
+            remove(row.getId());
+            return;
+        }
+        byte cat = (byte) categoryOrdinal(row.getCategory());
+        long deadline = row.getDeadlineEpoch() == null ? Long.MAX_VALUE : row.getDeadlineEpoch();
+        long key = cellKey(cellIndex(row.getLat()), cellIndex(row.getLng()));
+
+        Long prevKey = cellOfId.put(row.getId(), key);
+        if (prevKey != null && prevKey != key) {
+            cells.computeIfPresent(prevKey, (k, c) -> c.without(row.getId()));
+        }
+        cells.compute(key, (k, c) -> (c == null ? Cell.EMPTY : c)
+                .with(row.getId(), row.getLat(), row.getLng(), cat, deadline));
+        version.incrementAndGet();
+    }
+
+    private void remove(Long id) {
+        Long key = cellOfId.remove(id);
+        if (key != null) {
+            cells.computeIfPresent(key, (k, c) -> c.without(id));
+            version.incrementAndGet();
+        }
+    }
+
+    // ---------- 유틸 ----------
+
+    private static int categoryOrdinal(String name) {
+        for (Category c : CATEGORIES) {
+            if (c.name().equals(name)) return c.ordinal();
+        }
+        return Category.ETC.ordinal();
+    }
+
+    private static int cellIndex(double deg) {
+        return (int) Math.floor(deg / CELL_DEG);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long[] remove(long[] a, int idx) {
+        long[] r = new long[a.length - 1];
+        System.arraycopy(a, 0, r, 0, idx);
+        System.arraycopy(a, idx + 1, r, idx, a.length - idx - 1);
+        return r;
+    }
+
+    private static double[] remove(double[] a, int idx) {
+        double[] r = new double[a.length - 1];
+        System.arraycopy(a, 0, r, 0, idx);
+        System.arraycopy(a, idx + 1, r, idx, a.length - idx - 1);
+        return r;
+    }
+
+    private static byte[] remove(byte[] a, int idx) {
+        byte[] r = new byte[a.length - 1];
+        System.arraycopy(a, 0, r, 0, idx);
+        System.arraycopy(a, idx + 1, r, idx, a.length - idx - 1);
+        return r;
+    }
+}
@@ -1,7 +1,5 @@
 package com.stg.sikboo.groupbuying.presentation;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,8 +16,11 @@ import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
 import com.stg.sikboo.groupbuying.dto.request.GroupBuyingCreateRequest;
 import com.stg.sikboo.groupbuying.dto.request.GroupBuyingUpdateRequest;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse;
 import com.stg.sikboo.groupbuying.dto.response.GroupBuyingPageResponse;
 import com.stg.sikboo.groupbuying.dto.response.GroupBuyingResponse;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingSliceResponse;
+import com.stg.sikboo.groupbuying.service.GroupBuyingClusterService;
 import com.stg.sikboo.groupbuying.service.GroupBuyingService;
 
 import jakarta.validation.Valid;
@@ -31,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 public class GroupBuyingController {
     
     private final GroupBuyingService groupBuyingService;
+    private final GroupBuyingClusterService clusterService;
     
     /**
      * 공동구매 생성
@@ -52,41 +54,51 @@ public class GroupBuyingController {
     }
     
     /**
-     * 전체 공동구매 목록 조회
+     * 전체 공동구매 목록 조회 (최신순, 커서)
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20, 최대 100)
      */
     @GetMapping
-    public ResponseEntity<List<GroupBuyingResponse>> getAllGroupBuyings() {
-        List<GroupBuyingResponse> responses = groupBuyingService.getAllGroupBuyings();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<GroupBuyingSliceResponse> getAllGroupBuyings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupBuyingSliceResponse response = groupBuyingService.getAllGroupBuyings(cursor, size);
+        return ResponseEntity.ok(response);
     }
     
     /**
-     * 모집중인 공동구매 목록 조회
+     * 모집중인 공동구매 목록 조회 (최신순, 커서)
      */
     @GetMapping("/active")
-    public ResponseEntity<List<GroupBuyingResponse>> getActiveGroupBuyings() {
-        List<GroupBuyingResponse> responses = groupBuyingService.getActiveGroupBuyings();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<GroupBuyingSliceResponse> getActiveGroupBuyings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupBuyingSliceResponse response = groupBuyingService.getActiveGroupBuyings(cursor, size);
+        return ResponseEntity.ok(response);
     }
     
     /**
-     * 카테고리별 공동구매 목록 조회
+     * 카테고리별 공동구매 목록 조회 (최신순, 커서)
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<GroupBuyingResponse>> getGroupBuyingsByCategory(
-            @PathVariable("category") Category category) {
-        List<GroupBuyingResponse> responses = groupBuyingService.getGroupBuyingsByCategory(category);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<GroupBuyingSliceResponse> getGroupBuyingsByCategory(
+            @PathVariable("category") Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupBuyingSliceResponse response = groupBuyingService.getGroupBuyingsByCategory(category, cursor, size);
+        return ResponseEntity.ok(response);
     }
     
     /**
-     * 내가 만든 공동구매 목록 조회
+     * 내가 만든 공동구매 목록 조회 (최신순, 커서)
      */
     @GetMapping("/my")
-    public ResponseEntity<List<GroupBuyingResponse>> getMyGroupBuyings(
-            @RequestParam("memberId") Long memberId) {
-        List<GroupBuyingResponse> responses = groupBuyingService.getMyGroupBuyings(memberId);
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<GroupBuyingSliceResponse> getMyGroupBuyings(
+            @RequestParam("memberId") Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        GroupBuyingSliceResponse response = groupBuyingService.getMyGroupBuyings(memberId, cursor, size);
+        return ResponseEntity.ok(response);
     }
     
     /**
@@ -139,4 +151,41 @@ public class GroupBuyingController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 통합 필터링 커서 조회 (무한 스크롤용, 전체 개수 없이 hasNext/nextCursor 만)
+     * Query String 파라미터: /search 와 같음, page 대신
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<GroupBuyingSliceResponse> searchGroupBuyingsSlice(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double distance,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        return ResponseEntity.ok(groupBuyingService.searchGroupBuyingsSlice(
+                search, category, status, lat, lng, distance, cursor, size));
+    }
+    
+    /**
+     * 지도용 모집중 공동구매 클러스터
+     * Query String 파라미터:
+     * - bbox: 화면 영역 "minLng,minLat,maxLng,maxLat"
+     * - zoom: 웹 메르카토르 줌 레벨 (0~20)
+     * - category: 카테고리 (선택)
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<GroupBuyingClusterResponse> getClusters(
+            @RequestParam String bbox,
+            @RequestParam int zoom,
+            @RequestParam(required = false) Category category) {
+        
+        return ResponseEntity.ok(clusterService.clusters(bbox, zoom, category));
+    }
+    
 }
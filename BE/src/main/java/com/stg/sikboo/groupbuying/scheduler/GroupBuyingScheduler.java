@@ -9,8 +9,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 공동구매 자동 마감 스케줄러
- * 1분마다 실행되어 마감 시간이 지난 공동구매를 자동으로 마감 처리합니다.
+ * 공동구매 자동 마감 정리 스케줄러
+ * 정시 마감은 DeadlineTimer 가 처리하고, 이 스케줄러는 놓친 것을 주기적으로 마감 처리합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -21,9 +21,9 @@ public class GroupBuyingScheduler {
     
     /**
      * 마감 시간이 지난 공동구매 자동 마감
-     * 매 분마다 실행 (cron: 초 분 시 일 월 요일)
+     * 기본 10분마다 실행 (cron: 초 분 시 일 월 요일)
      */
-    @Scheduled(cron = "0 * * * * *")
+    @Scheduled(cron = "${app.groupbuying.deadline-sweep-cron:0 */10 * * * *}")
     public void closeExpiredGroupBuyings() {
         log.debug("[마감 시간이 지난 공동구매 자동 마감 스케줄러] 실행 - 서비스 호출");
         schedulerService.closeExpiredGroupBuyings();
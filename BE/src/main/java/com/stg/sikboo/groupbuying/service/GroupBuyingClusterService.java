@@ -0,0 +1,218 @@
+package com.stg.sikboo.groupbuying.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse.Cluster;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse.Point;
+import com.stg.sikboo.groupbuying.infra.RecruitingGeoIndex;
+
+/**
+ * 지도 화면용 모집중 공동구매 클러스터링
+ *
+ * - 화면 영역(bbox)을 줌 레벨의 웹 메르카토르 타일로 나누고, 타일마다 GRID x GRID 칸으로 집계
+ * - 칸에 POINT_THRESHOLD 개 이하면 개별 좌표, 넘으면 개수 + 무게중심 → 타일당 응답 크기 상한이 고정
+ * - 타일 집계는 (줌, x, y, 카테고리) 로 캐시. 위치 인덱스 버전이 같으면 그대로,
+ *   달라도 maxStaleMs 안이면 재사용(쓰기가 몰려도 타일을 매번 다시 만들지 않음)
+ */
+@Service
+public class GroupBuyingClusterService {
+
+    private static final int MIN_ZOOM = 0;
+    private static final int MAX_ZOOM = 20;
+    // 타일 한 변을 몇 칸으로 나눌지
+    private static final int GRID = 8;
+    // 칸에 이 개수 이하면 개별 마커
+    private static final int POINT_THRESHOLD = 3;
+    // 요청 1건이 다룰 수 있는 최대 타일 수 (bbox 가 줌에 비해 너무 크면 거절)
+    private static final int MAX_TILES = 64;
+    // 메르카토르 표현 가능 위도
+    private static final double MAX_LAT = 85.05112878;
+
+    private record TileKey(int zoom, int x, int y, Category category) {}
+
+    private record TileAggregate(long version, long builtAt, List<Cluster> clusters, List<Point> points) {}
+
+    // 칸 하나의 집계 (개별 좌표는 임계값까지만 보관)
+    private static final class Bucket {
+        int count;
+        double sumLat;
+        double sumLng;
+        final long[] ids = new long[POINT_THRESHOLD];
+        final double[] lat = new double[POINT_THRESHOLD];
+        final double[] lng = new double[POINT_THRESHOLD];
+    }
+
+    private final RecruitingGeoIndex geoIndex;
+    private final long maxStaleMs;
+    private final Map<TileKey, TileAggregate> cache;
+
+    public GroupBuyingClusterService(
+            RecruitingGeoIndex geoIndex,
+            @Value("${app.groupbuying.cluster-cache.max-tiles:5000}") int maxTiles,
+            @Value("${app.groupbuying.cluster-cache.max-stale-ms:5000}") long maxStaleMs
+    ) {
+        this.geoIndex = geoIndex;
+        this.maxStaleMs = maxStaleMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, TileAggregate> eldest) {
+                return size() > maxTiles;
+            }
+        };
+    }
+
+    /**
+     * @param bbox "minLng,minLat,maxLng,maxLat"
+     */
+    public GroupBuyingClusterResponse clusters(String bbox, int zoom, Category category) {
+        if (!geoIndex.ready()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "위치 정보를 준비 중입니다.");
+        }
+        double[] box = parseBbox(bbox);
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+
+        int n = 1 << z;
+        int minX = tileX(box[0], n);
+        int maxX = tileX(box[2], n);
+        int minY = tileY(box[3], n);   // 북쪽이 y 가 작음
+        int maxY = tileY(box[1], n);
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_TILES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지도 영역이 줌 레벨에 비해 너무 넓습니다.");
+        }
+
+        List<Cluster> clusters = new ArrayList<>();
+        List<Point> points = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                TileAggregate t = tile(new TileKey(z, x, y, category));
+                clusters.addAll(t.clusters());
+                points.addAll(t.points());
+            }
+        }
+
+        return GroupBuyingClusterResponse.builder()
+                .zoom(z)
+                .clusters(clusters)
+                .points(points)
+                .build();
+    }
+
+    private TileAggregate tile(TileKey key) {
+        long version = geoIndex.version();
+        long now = System.currentTimeMillis();
+
+        TileAggregate cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null && (cached.version() == version || now - cached.builtAt() < maxStaleMs)) {
+            return cached;
+        }
+
+        TileAggregate built = build(key, version, now);
+        synchronized (cache) {
+            cache.put(key, built);
+        }
+        return built;
+    }
+
+    private TileAggregate build(TileKey key, long version, long now) {
+        int n = 1 << key.zoom();
+        double west = tileLng(key.x(), n);
+        double east = tileLng(key.x() + 1, n);
+        double north = tileLat(key.y(), n);
+        double south = tileLat(key.y() + 1, n);
+
+        Map<Integer, Bucket> buckets = new HashMap<>();
+        geoIndex.scanBox(south, west, north, east, key.category(), (id, lat, lng) -> {
+            // 타일 안 상대 위치(메르카토르) → 칸 번호
+            int cx = clamp((int) ((mercX(lng, n) - key.x()) * GRID));
+            int cy = clamp((int) ((mercY(lat, n) - key.y()) * GRID));
+            Bucket b = buckets.computeIfAbsent(cy * GRID + cx, k -> new Bucket());
+            if (b.count < POINT_THRESHOLD) {
+                b.ids[b.count] = id;
+                b.lat[b.count] = lat;
+                b.lng[b.count] = lng;
+            }
+            b.count++;
+            b.sumLat += lat;
+            b.sumLng += lng;
+        });
+
+        List<Cluster> clusters = new ArrayList<>();
+        List<Point> points = new ArrayList<>();
+        for (Bucket b : buckets.values()) {
+            if (b.count <= POINT_THRESHOLD) {
+                for (int i = 0; i < b.count; i++) points.add(new Point(b.ids[i], b.lat[i], b.lng[i]));
+            } else {
+                clusters.add(new Cluster(b.sumLat / b.count, b.sumLng / b.count, b.count));
+            }
+        }
+        return new TileAggregate(version, now, List.copyOf(clusters), List.copyOf(points));
+    }
+
+    // ---------- bbox / 타일 좌표 ----------
+
+    private static double[] parseBbox(String bbox) {
+        if (bbox == null) throw badBbox();
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) throw badBbox();
+        double[] v = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) v[i] = Double.parseDouble(parts[i].trim());
+        } catch (NumberFormatException e) {
+            throw badBbox();
+        }
+        // minLng, minLat, maxLng, maxLat
+        if (v[0] > v[2] || v[1] > v[3]) throw badBbox();
+        v[0] = Math.max(-180, v[0]);
+        v[2] = Math.min(180, v[2]);
+        v[1] = Math.max(-MAX_LAT, v[1]);
+        v[3] = Math.min(MAX_LAT, v[3]);
+        return v;
+    }
+
+    private static ResponseStatusException badBbox() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 형식: minLng,minLat,maxLng,maxLat");
+    }
+
+    private static double mercX(double lng, int n) {
+        return (lng + 180.0) / 360.0 * n;
+    }
+
+    private static double mercY(double lat, int n) {
+        double r = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(r) + 1 / Math.cos(r)) / Math.PI) / 2 * n;
+    }
+
+    private static int tileX(double lng, int n) {
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(mercX(lng, n))));
+    }
+
+    private static int tileY(double lat, int n) {
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(mercY(lat, n))));
+    }
+
+    private static double tileLng(int x, int n) {
+        return x / (double) n * 360.0 - 180.0;
+    }
+
+    private static double tileLat(int y, int n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / n))));
+    }
+
+    private static int clamp(int cell) {
+        return Math.max(0, Math.min(GRID - 1, cell));
+    }
+}
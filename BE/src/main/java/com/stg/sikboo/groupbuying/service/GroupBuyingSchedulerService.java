@@ -1,12 +1,19 @@
 package com.stg.sikboo.groupbuying.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.stg.sikboo.groupbuying.domain.GroupBuying;
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
+import com.stg.sikboo.groupbuying.domain.ClosedGroupBuyingRow;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
 import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
 
@@ -17,32 +24,65 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class GroupBuyingSchedulerService {
-    
+
+    private static final int SWEEP_BATCH = 500;
+
     private final GroupBuyingRepository groupBuyingRepository;
-    
+    private final DomainEventPublisher events;
+
     /**
-     * 마감 시간이 지난 공동구매를 자동으로 마감 처리
+     * 마감 시간이 지난 공동구매를 자동으로 마감 처리 (정리 스윕)
+     * 정시 마감은 DeadlineTimer 가 하고, 여기서는 놓친 것(재시작 직후, 이벤트 유실 등)만 처리
      * 트랜잭션 내에서 실행됨
      */
     @Transactional
     public void closeExpiredGroupBuyings() {
         LocalDateTime now = LocalDateTime.now();
-        
-        // 모집중 상태이면서 마감 시간이 지난 공동구매 조회
-        List<GroupBuying> expiredGroupBuyings = groupBuyingRepository
-            .findByStatusAndDeadlineBefore(Status.RECRUITING, now);
-        
-        if (expiredGroupBuyings.isEmpty()) {
-            return;
+
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            // 모집중 상태이면서 마감 시간이 지난 공동구매 id 만 조회
+            List<Long> ids = groupBuyingRepository.findExpiredIds(
+                    Status.RECRUITING, now, afterId, PageRequest.of(0, SWEEP_BATCH));
+            if (ids.isEmpty()) break;
+            total += closeDue(ids);
+            if (ids.size() < SWEEP_BATCH) break;
+            afterId = ids.get(ids.size() - 1);
         }
-        
-        // 마감 처리
-        for (GroupBuying groupBuying : expiredGroupBuyings) {
-            groupBuying.closeByDeadline();
+
+        if (total > 0) {
+            log.debug("=== [서비스] 공동구매 자동 마감 완료: {}건 처리 ===", total);
         }
+    }
 
-        groupBuyingRepository.saveAll(expiredGroupBuyings);
+    /**
+     * 주어진 공동구매를 UPDATE 한 번으로 마감 처리하고, 실제로 마감된 것만 CLOSED 이벤트 발행
+     * (이미 마감됐거나 마감 시간이 미뤄진 행은 조건에서 빠지고, RETURNING 에도 나오지 않음)
+     *
+     * @return 마감 처리 건수
+     */
+    @Transactional
+    public int closeDue(Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+
+        List<ClosedGroupBuyingRow> closed = groupBuyingRepository.closeExpired(
+                ids, Status.RECRUITING.name(), Status.DEADLINE.name(), LocalDateTime.now());
+        for (ClosedGroupBuyingRow row : closed) {
+            events.publish(AggregateType.GROUP_BUYING, row.getId(), EventType.CLOSED,
+                    row.getMemberId(), closedPayload(row));
+        }
+        return closed.size();
+    }
 
-        log.debug("=== [서비스] 공동구매 자동 마감 완료: {}건 처리 ===", expiredGroupBuyings.size());
+    // GroupBuyingService.eventPayload 와 같은 키 (엔티티를 읽지 않고 RETURNING 값으로)
+    private static Map<String, Object> closedPayload(ClosedGroupBuyingRow row) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("status", Status.DEADLINE);
+        m.put("category", row.getCategory());
+        m.put("lat", row.getLat());
+        m.put("lng", row.getLng());
+        m.put("deadline", row.getDeadline());
+        return m;
     }
 }
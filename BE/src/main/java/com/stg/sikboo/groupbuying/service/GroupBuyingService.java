@@ -1,23 +1,33 @@
 package com.stg.sikboo.groupbuying.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
 import com.stg.sikboo.groupbuying.domain.GroupBuying;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
 import com.stg.sikboo.groupbuying.domain.GroupBuying.Status;
+import com.stg.sikboo.groupbuying.domain.NearbyGroupBuyingRow;
 import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
 import com.stg.sikboo.groupbuying.dto.request.GroupBuyingCreateRequest;
 import com.stg.sikboo.groupbuying.dto.request.GroupBuyingUpdateRequest;
 import com.stg.sikboo.groupbuying.dto.response.GroupBuyingPageResponse;
 import com.stg.sikboo.groupbuying.dto.response.GroupBuyingResponse;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingSliceResponse;
+import com.stg.sikboo.groupbuying.infra.RecruitingGeoIndex;
 import com.stg.sikboo.member.domain.Member;
 import com.stg.sikboo.member.domain.MemberRepository;
 import com.stg.sikboo.participant.domain.Participant;
@@ -30,9 +40,13 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class GroupBuyingService {
     
+    private static final int MAX_SLICE_SIZE = 100;
+    
     private final GroupBuyingRepository groupBuyingRepository;
     private final MemberRepository memberRepository;
     private final ParticipantRepository participantRepository;
+    private final DomainEventPublisher events;
+    private final RecruitingGeoIndex geoIndex;
     
     /**
      * 공동구매 생성
@@ -67,6 +81,8 @@ public class GroupBuyingService {
                 .build();
         
         participantRepository.save(participant);
+        events.publish(AggregateType.GROUP_BUYING, saved.getGroupBuyingId(), EventType.CREATED,
+                member.getId(), eventPayload(saved));
         
         return GroupBuyingResponse.from(saved);
     }
@@ -75,50 +91,93 @@ public class GroupBuyingService {
      * 공동구매 단건 조회
      */
     public GroupBuyingResponse getGroupBuying(Long id) {
-        GroupBuying groupBuying = groupBuyingRepository.findById(id)
+        GroupBuying groupBuying = groupBuyingRepository.findWithMemberById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매입니다."));
         return GroupBuyingResponse.from(groupBuying);
     }
     
     /**
-     * 전체 공동구매 목록 조회 (최신순)
+     * 전체 공동구매 목록 조회 (최신순, 커서)
+     */
+    public GroupBuyingSliceResponse getAllGroupBuyings(String cursor, int size) {
+        Cursor c = Cursor.decode(cursor);
+        int limit = clampSize(size);
+        return toSlice(groupBuyingRepository.findSliceWithMember(
+                c.createdAt(), c.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+    
+    /**
+     * 모집중인 공동구매 목록 조회 (최신순, 커서)
      */
-    public List<GroupBuyingResponse> getAllGroupBuyings() {
-        return groupBuyingRepository.findAll().stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .map(GroupBuyingResponse::from)
-                .collect(Collectors.toList());
+    public GroupBuyingSliceResponse getActiveGroupBuyings(String cursor, int size) {
+        Cursor c = Cursor.decode(cursor);
+        int limit = clampSize(size);
+        return toSlice(groupBuyingRepository.findActiveSliceWithMember(
+                Status.RECRUITING, LocalDateTime.now(), c.createdAt(), c.id(), PageRequest.of(0, limit + 1)), limit);
     }
     
     /**
-     * 모집중인 공동구매 목록 조회 (최신순)
+     * 카테고리별 공동구매 목록 조회 (최신순, 커서)
      */
-    public List<GroupBuyingResponse> getActiveGroupBuyings() {
-        LocalDateTime now = LocalDateTime.now();
-        return groupBuyingRepository.findByStatusAndDeadlineAfter(Status.RECRUITING, now).stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .map(GroupBuyingResponse::from)
-                .collect(Collectors.toList());
+    public GroupBuyingSliceResponse getGroupBuyingsByCategory(Category category, String cursor, int size) {
+        Cursor c = Cursor.decode(cursor);
+        int limit = clampSize(size);
+        return toSlice(groupBuyingRepository.findCategorySliceWithMember(
+                category, c.createdAt(), c.id(), PageRequest.of(0, limit + 1)), limit);
     }
     
     /**
-     * 카테고리별 공동구매 목록 조회 (최신순)
+     * 내가 만든 공동구매 목록 조회 (최신순, 커서)
      */
-    public List<GroupBuyingResponse> getGroupBuyingsByCategory(Category category) {
-        return groupBuyingRepository.findByCategory(category).stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .map(GroupBuyingResponse::from)
-                .collect(Collectors.toList());
+    public GroupBuyingSliceResponse getMyGroupBuyings(Long memberId, String cursor, int size) {
+        Cursor c = Cursor.decode(cursor);
+        int limit = clampSize(size);
+        return toSlice(groupBuyingRepository.findMemberSliceWithMember(
+                memberId, c.createdAt(), c.id(), PageRequest.of(0, limit + 1)), limit);
+    }
+    
+    // size + 1 건 조회 결과 → 다음 페이지 여부/커서
+    private static GroupBuyingSliceResponse toSlice(List<GroupBuying> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<GroupBuying> page = hasNext ? rows.subList(0, limit) : rows;
+        String next = hasNext ? Cursor.of(page.get(page.size() - 1)).encode() : null;
+        return GroupBuyingSliceResponse.builder()
+                .content(page.stream().map(GroupBuyingResponse::from).collect(Collectors.toList()))
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(next)
+                .build();
+    }
+    
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
     }
     
     /**
-     * 내가 만든 공동구매 목록 조회 (최신순)
+     * 목록 커서: 마지막 행의 (createdAt, id) → "2025-11-30T10:15:30.123456_42"
+     * 커서가 없으면 최대값(첫 페이지)
      */
-    public List<GroupBuyingResponse> getMyGroupBuyings(Long memberId) {
-        return groupBuyingRepository.findByMember_Id(memberId).stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .map(GroupBuyingResponse::from)
-                .collect(Collectors.toList());
+    private record Cursor(LocalDateTime createdAt, Long id) {
+        static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+        
+        static Cursor of(GroupBuying g) {
+            return new Cursor(g.getCreatedAt(), g.getGroupBuyingId());
+        }
+        
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return FIRST;
+            int sep = cursor.lastIndexOf('_');
+            try {
+                return new Cursor(LocalDateTime.parse(cursor.substring(0, sep)),
+                        Long.parseLong(cursor.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        
+        String encode() {
+            return createdAt + "_" + id;
+        }
     }
     
     /**
@@ -126,7 +185,7 @@ public class GroupBuyingService {
      */
     @Transactional
     public GroupBuyingResponse updateGroupBuying(Long id, GroupBuyingUpdateRequest request) {
-        GroupBuying groupBuying = groupBuyingRepository.findById(id)
+        GroupBuying groupBuying = groupBuyingRepository.findWithMemberById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매입니다."));
         
         // Entity의 update 메서드 호출 (더티 체킹으로 자동 업데이트)
@@ -141,6 +200,8 @@ public class GroupBuyingService {
                 request.getPickupLongitude(),
                 request.getDeadline()
         );
+        events.publish(AggregateType.GROUP_BUYING, id, EventType.UPDATED,
+                groupBuying.getMember().getId(), eventPayload(groupBuying));
         
         return GroupBuyingResponse.from(groupBuying);
     }
@@ -150,11 +211,25 @@ public class GroupBuyingService {
      */
     @Transactional
     public void deleteGroupBuying(Long id) {
-        if (!groupBuyingRepository.existsById(id)) {
-            throw new IllegalArgumentException("존재하지 않는 공동구매입니다.");
-        }
+        GroupBuying groupBuying = groupBuyingRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공동구매입니다."));
 
-        groupBuyingRepository.deleteById(id);
+        groupBuyingRepository.delete(groupBuying);
+        events.publish(AggregateType.GROUP_BUYING, id, EventType.DELETED,
+                groupBuying.getMember().getId(), eventPayload(groupBuying));
+    }
+    
+    /**
+     * 이벤트 페이로드 (지도/마감 등 파생 뷰가 쓰는 값만)
+     */
+    static Map<String, Object> eventPayload(GroupBuying g) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("status", g.getStatus());
+        m.put("category", g.getCategory());
+        m.put("lat", g.getPickupLatitude());
+        m.put("lng", g.getPickupLongitude());
+        m.put("deadline", g.getDeadline() == null ? null : g.getDeadline().toString());
+        return m;
     }
     
     /**
@@ -181,19 +256,20 @@ public class GroupBuyingService {
             int size) {
         
         Pageable pageable = PageRequest.of(page, size);
+        String q = search == null ? "" : search;
         
-        Page<Object[]> result = groupBuyingRepository.findWithFiltersAndDistance(
-                search, category, status, userLat, userLng, maxDistance, pageable
-        );
-        
-        // Object[] -> GroupBuyingResponse 변환 (거리 정보 포함)
-        List<GroupBuyingResponse> content = result.getContent().stream()
-                .map(row -> {
-                    GroupBuying groupBuying = (GroupBuying) row[0];
-                    Double distance = row[1] != null ? ((Number) row[1]).doubleValue() : null;
-                    return GroupBuyingResponse.from(groupBuying, distance);
-                })
-                .collect(Collectors.toList());
+        Page<GroupBuyingResponse> result;
+        if (userLat == null || userLng == null) {
+            // 위치 없음 → 최신순
+            result = groupBuyingRepository.findWithFilters(q, category, status, pageable)
+                    .map(GroupBuyingResponse::from);
+        } else if (maxDistance != null && q.isBlank() && status == Status.RECRUITING && geoIndex.ready()) {
+            // "내 주변 모집중" → 메모리 위치 인덱스에서 id 만 뽑고 페이지 분량만 DB 조회
+            result = findNearbyFromIndex(category, userLat, userLng, maxDistance, pageable);
+        } else {
+            result = findNearby(q, category, status, userLat, userLng, maxDistance, pageable);
+        }
+        List<GroupBuyingResponse> content = result.getContent();
         
         return GroupBuyingPageResponse.builder()
                 .content(content)
@@ -207,4 +283,167 @@ public class GroupBuyingService {
                 .build();
     }
     
+    /**
+     * 통합 필터링 커서 조회 (무한 스크롤용, count 쿼리 없음)
+     * - size + 1 건만 읽어 hasNext 판단
+     * - 위치 없음: (createdAt, id) 키셋 / 위치 있음: (거리, createdAt, id) 키셋
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     */
+    public GroupBuyingSliceResponse searchGroupBuyingsSlice(
+            String search,
+            Category category,
+            Status status,
+            Double userLat,
+            Double userLng,
+            Double maxDistance,
+            String cursor,
+            int size) {
+        
+        String q = search == null ? "" : search;
+        int limit = clampSize(size);
+        
+        if (userLat == null || userLng == null) {
+            Cursor c = Cursor.decode(cursor);
+            return toSlice(groupBuyingRepository.findSliceWithFilters(
+                    q, category, status, c.createdAt(), c.id(), PageRequest.of(0, limit + 1)), limit);
+        }
+        
+        DistanceCursor c = DistanceCursor.decode(cursor);
+        if (maxDistance != null && q.isBlank() && status == Status.RECRUITING && geoIndex.ready()) {
+            return sliceFromIndex(category, userLat, userLng, maxDistance, c, limit);
+        }
+        
+        String cat = category == null ? "" : category.name();
+        String st = status == null ? "" : status.name();
+        List<NearbyGroupBuyingRow> rows = maxDistance != null
+                ? groupBuyingRepository.findNearbySliceWithin(userLat, userLng, maxDistance * 1000.0, q, cat, st,
+                        c.distanceKm(), c.createdAt(), c.id(), limit + 1)
+                : groupBuyingRepository.findNearestSlice(userLat, userLng, q, cat, st,
+                        c.distanceKm(), c.createdAt(), c.id(), limit + 1);
+        
+        boolean hasNext = rows.size() > limit;
+        List<NearbyGroupBuyingRow> page = hasNext ? rows.subList(0, limit) : rows;
+        return toDistanceSlice(
+                hydrate(page.stream().map(NearbyGroupBuyingRow::getId).toList(),
+                        page.stream().map(NearbyGroupBuyingRow::getDistanceKm).toList()),
+                limit, hasNext);
+    }
+    
+    // 메모리 인덱스 결과는 (거리, id DESC) 정렬이므로 커서 이후 위치를 찾아 잘라냄
+    private GroupBuyingSliceResponse sliceFromIndex(
+            Category category, double lat, double lng, double maxDistance, DistanceCursor c, int limit) {
+        List<RecruitingGeoIndex.Hit> hits = geoIndex.search(lat, lng, maxDistance, category);
+        
+        int from = 0;
+        while (from < hits.size() && !c.isBefore(hits.get(from))) from++;
+        int to = Math.min(from + limit, hits.size());
+        List<RecruitingGeoIndex.Hit> page = hits.subList(from, to);
+        
+        return toDistanceSlice(
+                hydrate(page.stream().map(RecruitingGeoIndex.Hit::id).toList(),
+                        page.stream().map(RecruitingGeoIndex.Hit::distanceKm).toList()),
+                limit, to < hits.size());
+    }
+    
+    private static GroupBuyingSliceResponse toDistanceSlice(List<GroupBuyingResponse> content, int limit, boolean hasNext) {
+        // 조회 사이에 삭제된 행은 hydrate 에서 빠지므로 커서는 실제로 내려준 마지막 행 기준
+        String next = hasNext && !content.isEmpty()
+                ? DistanceCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+        return GroupBuyingSliceResponse.builder()
+                .content(content)
+                .size(limit)
+                .hasNext(next != null)
+                .nextCursor(next)
+                .build();
+    }
+    
+    /**
+     * 거리순 커서: 마지막 행의 (거리 km, createdAt, id) → "1.2345_2025-11-30T10:15:30.123456_42"
+     * 거리는 Double.toString 으로 그대로 왕복되므로 같은 행과 정확히 비교됨
+     * 커서가 없으면 거리 -1 (첫 페이지)
+     */
+    private record DistanceCursor(double distanceKm, LocalDateTime createdAt, long id) {
+        static final DistanceCursor FIRST = new DistanceCursor(-1, Cursor.FIRST.createdAt(), Long.MAX_VALUE);
+        
+        static DistanceCursor of(GroupBuyingResponse r) {
+            return new DistanceCursor(r.getDistance(), r.getCreatedAt(), r.getGroupBuyingId());
+        }
+        
+        static DistanceCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return FIRST;
+            String[] parts = cursor.split("_");
+            if (parts.length != 3) throw new IllegalArgumentException("잘못된 커서입니다.");
+            try {
+                return new DistanceCursor(Double.parseDouble(parts[0]), LocalDateTime.parse(parts[1]),
+                        Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        
+        // 인덱스 정렬(거리 ASC, id DESC) 기준으로 커서보다 뒤에 오는 행인지
+        boolean isBefore(RecruitingGeoIndex.Hit hit) {
+            int cmp = Double.compare(distanceKm, hit.distanceKm());
+            return cmp < 0 || (cmp == 0 && id > hit.id());
+        }
+        
+        String encode() {
+            return distanceKm + "_" + createdAt + "_" + id;
+        }
+    }
+    
+    /**
+     * 위치 기반 조회: PostGIS 인덱스로 id + 거리만 뽑고, 페이지 분량만 엔티티 조회
+     */
+    private Page<GroupBuyingResponse> findNearby(
+            String search, Category category, Status status,
+            double lat, double lng, Double maxDistance, Pageable pageable) {
+        String cat = category == null ? "" : category.name();
+        String st = status == null ? "" : status.name();
+
+        List<NearbyGroupBuyingRow> rows;
+        long total;
+        if (maxDistance != null) {
+            double radiusM = maxDistance * 1000.0;
+            rows = groupBuyingRepository.findNearbyWithin(lat, lng, radiusM, search, cat, st,
+                    pageable.getPageSize(), pageable.getOffset());
+            total = groupBuyingRepository.countNearbyWithin(lat, lng, radiusM, search, cat, st);
+        } else {
+            rows = groupBuyingRepository.findNearest(lat, lng, search, cat, st,
+                    pageable.getPageSize(), pageable.getOffset());
+            total = groupBuyingRepository.countWithFilters(search, cat, st);
+        }
+
+        List<Long> ids = rows.stream().map(NearbyGroupBuyingRow::getId).toList();
+        List<Double> distances = rows.stream().map(NearbyGroupBuyingRow::getDistanceKm).toList();
+        return new PageImpl<>(hydrate(ids, distances), pageable, total);
+    }
+
+    private Page<GroupBuyingResponse> findNearbyFromIndex(
+            Category category, double lat, double lng, double maxDistance, Pageable pageable) {
+        List<RecruitingGeoIndex.Hit> hits = geoIndex.search(lat, lng, maxDistance, category);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<RecruitingGeoIndex.Hit> slice = hits.subList(from, to);
+
+        List<Long> ids = slice.stream().map(RecruitingGeoIndex.Hit::id).toList();
+        List<Double> distances = slice.stream().map(RecruitingGeoIndex.Hit::distanceKm).toList();
+        return new PageImpl<>(hydrate(ids, distances), pageable, hits.size());
+    }
+
+    // 페이지 분량 엔티티 조회. findAllById 는 순서를 보장하지 않으므로 주어진 순서대로 다시 맞춤
+    private List<GroupBuyingResponse> hydrate(List<Long> ids, List<Double> distances) {
+        Map<Long, GroupBuying> byId = groupBuyingRepository.findAllWithMemberByIdIn(ids).stream()
+                .collect(Collectors.toMap(GroupBuying::getGroupBuyingId, g -> g));
+
+        List<GroupBuyingResponse> content = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            GroupBuying g = byId.get(ids.get(i));
+            if (g != null) content.add(GroupBuyingResponse.from(g, distances.get(i)));
+        }
+        return content;
+    }
 }
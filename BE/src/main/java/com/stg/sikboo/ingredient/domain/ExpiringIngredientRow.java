@@ -0,0 +1,11 @@
+package com.stg.sikboo.ingredient.domain;
+
+/**
+ * 소비기한 알림 스캔용 프로젝션 (엔티티 로딩 없이 필요한 컬럼만)
+ */
+public interface ExpiringIngredientRow {
+    Long getId();
+    Long getMemberId();
+    String getName();
+    String getLocation();
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +38,11 @@ public class Ingredient {
     @Column(name = "ingredient_name", nullable = false, length = 100)
     private String ingredientName;
 
+    // 중복 판정/검색용 정규화 이름. 저장 시 ingredientName 으로부터 자동 계산(직접 세팅 X)
+    // DDL: UNIQUE (member_id, location, due::date, normalized_name)
+    @Column(name = "normalized_name", nullable = false, length = 255)
+    private String normalizedName;
+
     // DDL은 VARCHAR + CHECK 제약. Enum STRING 저장으로 호환됨.
     @Enumerated(EnumType.STRING)
     @Column(name = "location", nullable = false, length = 50)
@@ -50,4 +57,10 @@ public class Ingredient {
 
     @Column(name = "memo", length = 255)
     private String memo;
+
+    @PrePersist
+    @PreUpdate
+    void syncNormalizedName() {
+        this.normalizedName = IngredientNameNormalizer.normalize(ingredientName);
+    }
 }
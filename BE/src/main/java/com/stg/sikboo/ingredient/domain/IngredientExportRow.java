@@ -0,0 +1,13 @@
+package com.stg.sikboo.ingredient.domain;
+
+/**
+ * 내보내기용 프로젝션 (due 는 "YYYY-MM-DD" 문자열)
+ */
+public interface IngredientExportRow {
+    Long getId();
+    String getName();
+    String getLocation();
+    String getDue();
+    Boolean getDueEstimated();
+    String getMemo();
+}
@@ -0,0 +1,26 @@
+package com.stg.sikboo.ingredient.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 재료명 비교용 정규화 (중복 판정/검색 키)
+ * - NFKC 정규화
+ * - 소문자화(Locale.ROOT)
+ * - 모든 공백 제거
+ *
+ * ingredient.normalized_name 컬럼에 저장되는 값과 동일해야 한다.
+ */
+public final class IngredientNameNormalizer {
+    private IngredientNameNormalizer() {}
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    public static String normalize(String s) {
+        if (s == null) return "";
+        String t = Normalizer.normalize(s, Normalizer.Form.NFKC);
+        t = t.toLowerCase(Locale.ROOT);
+        return SPACES.matcher(t).replaceAll("");
+    }
+}
@@ -0,0 +1,8 @@
+package com.stg.sikboo.ingredient.domain;
+
+/**
+ * 재료 id + 이름만 담는 읽기 전용 프로젝션 (레시피 재료 선택 목록)
+ *
+ * 예시(JSON): { "id": 141, "name": "대파" }
+ */
+public record IngredientNameView(Long id, String name) {}
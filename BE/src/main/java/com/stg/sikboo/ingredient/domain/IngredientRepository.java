@@ -1,68 +1,321 @@
 package com.stg.sikboo.ingredient.domain;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
 
-    // 목록 + 검색
+    // 목록 + 검색 (정렬 키마다 쿼리를 따로 둠 → ORDER BY 가 인덱스 순서와 그대로 맞음)
+    // - 이름 검색은 normalized_name 트라이그램 인덱스(idx_ing_norm_trgm) 사용
+    // - q 는 서비스에서 같은 규칙으로 정규화 + LIKE 와일드카드(%, _) 이스케이프 후 전달
+    // - 이름은 항상 COLLATE "C"(코드포인트 순): 인덱스(idx_ing_member_due_name / idx_ing_member_name_due),
+    //   스크롤 키셋, 스냅샷 캐시의 메모리 정렬(서비스 comparator())이 모두 같은 순서
+    // - 기한순: idx_ing_member_due_name 을 앞/뒤로 읽음
+    @Query(
+      value = """
+        SELECT i.*
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+        ORDER BY i.due ASC, i.ingredient_name COLLATE "C" ASC, i.ingredient_id ASC
+      """,
+      countQuery = """
+        SELECT count(*)
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+      """,
+      nativeQuery = true
+    )
+    Page<Ingredient> searchByDueAsc(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,   // 서비스에서 enum → name() 으로 바꿔 String 전달
+        @Param("q") String q,
+        Pageable pageable               // 페이징만 (정렬 없음)
+    );
+
     @Query(
       value = """
         SELECT i.*
         FROM ingredient i
         WHERE i.member_id = :memberId
           AND (:location IS NULL OR i.location = :location)
-          AND (:q IS NULL OR lower(i.ingredient_name) LIKE lower(concat('%', :q, '%')))
-      	ORDER BY i.due ASC, i.ingredient_name ASC
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+        ORDER BY i.due DESC, i.ingredient_name COLLATE "C" DESC, i.ingredient_id DESC
       """,
       countQuery = """
         SELECT count(*)
         FROM ingredient i
         WHERE i.member_id = :memberId
           AND (:location IS NULL OR i.location = :location)
-          AND (:q IS NULL OR lower(i.ingredient_name) LIKE lower(concat('%', :q, '%')))
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
       """,
       nativeQuery = true
     )
-    Page<Ingredient> search(
+    Page<Ingredient> searchByDueDesc(
         @Param("memberId") Long memberId,
         @Param("location") String location,   // 서비스에서 enum → name() 으로 바꿔 String 전달
         @Param("q") String q,
-        Pageable pageable
+        Pageable pageable               // 페이징만 (정렬 없음)
+    );
+
+    // - 이름순: idx_ing_member_name_due 를 앞/뒤로 읽음
+    @Query(
+      value = """
+        SELECT i.*
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+        ORDER BY i.ingredient_name COLLATE "C" ASC, i.due ASC, i.ingredient_id ASC
+      """,
+      countQuery = """
+        SELECT count(*)
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+      """,
+      nativeQuery = true
+    )
+    Page<Ingredient> searchByNameAsc(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,   // 서비스에서 enum → name() 으로 바꿔 String 전달
+        @Param("q") String q,
+        Pageable pageable               // 페이징만 (정렬 없음)
+    );
+
+    @Query(
+      value = """
+        SELECT i.*
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+        ORDER BY i.ingredient_name COLLATE "C" DESC, i.due DESC, i.ingredient_id DESC
+      """,
+      countQuery = """
+        SELECT count(*)
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+      """,
+      nativeQuery = true
+    )
+    Page<Ingredient> searchByNameDesc(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,   // 서비스에서 enum → name() 으로 바꿔 String 전달
+        @Param("q") String q,
+        Pageable pageable               // 페이징만 (정렬 없음)
+    );
+
+    // 무한 스크롤(키셋) 첫 페이지: (due, ingredient_name, ingredient_id) 순서로 limit 건
+    // - idx_ing_member_due_name 을 순서대로 읽는 범위 스캔(이름은 인덱스와 같은 COLLATE "C"), count 없음
+    @Query(
+      value = """
+        SELECT i.*
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+        ORDER BY i.due ASC, i.ingredient_name COLLATE "C" ASC, i.ingredient_id ASC
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<Ingredient> scrollFirst(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,
+        @Param("q") String q,
+        @Param("limit") int limit
     );
 
-    // 중복 후보 조회 
-    // "같은 위치(location)에, 같은 날짜 구간(start <= due < end)에 있는" 레코드들을 조회
-    // - 서비스에서 이름 정규화(norm)하여 "이름이 같은지"를 최종 비교
+    // 무한 스크롤(키셋) 다음 페이지: 커서 행 "이후"부터 limit 건 (행 값 비교로 인덱스 범위 시작점 지정)
     @Query(
       value = """
         SELECT i.*
         FROM ingredient i
         WHERE i.member_id = :memberId
-          AND i.location = :location
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+          AND (i.due, i.ingredient_name COLLATE "C", i.ingredient_id) > (:cursorDue, :cursorName, :cursorId)
+        ORDER BY i.due ASC, i.ingredient_name COLLATE "C" ASC, i.ingredient_id ASC
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<Ingredient> scrollAfter(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,
+        @Param("q") String q,
+        @Param("cursorDue") LocalDateTime cursorDue,
+        @Param("cursorName") String cursorName,
+        @Param("cursorId") Long cursorId,
+        @Param("limit") int limit
+    );
+
+    // 전체 건수 (스크롤 모드에서 withTotal=true 로 명시 요청 시에만 사용)
+    @Query(
+      value = """
+        SELECT count(*)
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND (:location IS NULL OR i.location = :location)
+          AND (:q IS NULL OR i.normalized_name LIKE concat('%', :q, '%') ESCAPE '\\')
+      """,
+      nativeQuery = true
+    )
+    long countSearch(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,
+        @Param("q") String q
+    );
+
+    // 중복 여부 단건 프로브: uq_ing_member_loc_day_norm (member_id, location, due::date, normalized_name) 인덱스 1회 조회
+    // - excludeId: 수정 시 자기 자신 제외(생성 시에는 존재할 수 없는 id 전달)
+    @Query(
+      value = """
+        SELECT EXISTS (
+          SELECT 1
+          FROM ingredient i
+          WHERE i.member_id = :memberId
+            AND i.location = :location
+            AND CAST(i.due AS date) = :day
+            AND i.normalized_name = :normalizedName
+            AND i.ingredient_id <> :excludeId
+        )
+      """,
+      nativeQuery = true
+    )
+    boolean existsDuplicate(
+        @Param("memberId") Long memberId,
+        @Param("location") String location,
+        @Param("day") LocalDate day,
+        @Param("normalizedName") String normalizedName,
+        @Param("excludeId") Long excludeId
+    );
+
+    // 일괄 중복 키 조회: 배치의 정규화 이름 + due 구간에 걸리는 기존 행의 "위치|날짜|정규화이름" 만
+    // - 엔티티를 올리지 않고, 결과 크기는 배치 이름 수에 비례 (보관함 전체 크기와 무관)
+    // - 키 형식은 PantryDedupFilter.dupKey 와 같음
+    @Query(
+      value = """
+        SELECT i.location || '|' || to_char(i.due, 'YYYY-MM-DD') || '|' || i.normalized_name
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND i.normalized_name IN (:names)
           AND i.due >= :start AND i.due < :end
       """,
       nativeQuery = true
     )
-    List<Ingredient> findDupCandidates(
+    List<String> findDupKeysInRange(
         @Param("memberId") Long memberId,
-        @Param("location") String location,   // enum → name() 으로 받은 문자열
-        @Param("start") LocalDateTime startInclusive,  // 해당 날짜의 00:00 (포함)
-        @Param("end") LocalDateTime endExclusive       // 다음날 00:00 (제외)
+        @Param("names") Collection<String> names,
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
+
+    // 소비기한 알림 스캔: 특정 날짜(due::date)의 재료를 (member_id, ingredient_id) 키셋으로 순회
+    // - idx_ing_due_day_member 인덱스 순서 그대로 읽음(정렬/엔티티 로딩 없음)
+    // - 첫 페이지는 afterMemberId = afterId = 0
+    // - 대소문자 섞인 별칭은 따옴표로 감싸야 PostgreSQL 이 소문자로 바꾸지 않음(프로젝션 매핑)
+    @Query(
+      value = """
+        SELECT i.ingredient_id   AS id,
+               i.member_id       AS "memberId",
+               i.ingredient_name AS name,
+               i.location        AS location
+        FROM ingredient i
+        WHERE CAST(i.due AS date) = :day
+          AND (i.member_id, i.ingredient_id) > (:afterMemberId, :afterId)
+        ORDER BY i.member_id, i.ingredient_id
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<ExpiringIngredientRow> findExpiringOn(
+        @Param("day") LocalDate day,
+        @Param("afterMemberId") long afterMemberId,
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
+
+    // 내보내기: 회원 재료를 id 순 키셋으로 limit 건씩 (idx_ing_member_id, 첫 페이지 afterId = 0)
+    @Query(
+      value = """
+        SELECT i.ingredient_id               AS id,
+               i.ingredient_name             AS name,
+               i.location                    AS location,
+               to_char(i.due, 'YYYY-MM-DD')  AS due,
+               i.is_due_estimated            AS "dueEstimated",
+               i.memo                        AS memo
+        FROM ingredient i
+        WHERE i.member_id = :memberId
+          AND i.ingredient_id > :afterId
+        ORDER BY i.ingredient_id
+        LIMIT :limit
+      """,
+      nativeQuery = true
+    )
+    List<IngredientExportRow> findExportChunk(
+        @Param("memberId") Long memberId,
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
     );
 
     // 단건 조회(소유자 일치)
     Optional<Ingredient> findByIdAndMemberId(Long id, Long memberId);
-    
-    List<Ingredient> findByMemberIdOrderByIdDesc(Long memberId);
 
-    // 특정 id 리스트에 해당하는 재료들(소유자 필터 포함)
-    List<Ingredient> findByMemberIdAndIdIn(Long memberId, List<Long> ids);
+    // 재료 스냅샷 캐시 적재용: 목록 응답에 필요한 컬럼만 record 로 바로 조회(엔티티/더티체킹 스냅샷 없음)
+    // pageable 은 크기 제한용(PageRequest.of(0, maxItems + 1)) → 너무 큰 회원도 maxItems + 1 건까지만 읽음
+    @Query("""
+        SELECT new com.stg.sikboo.ingredient.domain.PantryItem(
+            i.id, i.ingredientName, i.normalizedName, i.location, i.due, i.isDueEstimated, i.memo)
+        FROM Ingredient i
+        WHERE i.memberId = :memberId
+        ORDER BY i.id DESC
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    List<PantryItem> findPantryItemsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 레시피 재료 선택용: id/이름 두 컬럼만 DTO 로 바로 조회(엔티티/스냅샷 없음, 읽기 전용)
+    @Query("""
+        SELECT new com.stg.sikboo.ingredient.domain.IngredientNameView(i.id, i.ingredientName)
+        FROM Ingredient i
+        WHERE i.memberId = :memberId
+        ORDER BY i.id DESC
+    """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500")
+    })
+    List<IngredientNameView> findNameViewsByMemberId(@Param("memberId") Long memberId);
+
+    // 레시피 생성용: 선택한 재료의 이름만 조회(소유자 필터 포함, 엔티티 로딩 없음)
+    @Query("""
+        SELECT i.ingredientName
+        FROM Ingredient i
+        WHERE i.memberId = :memberId AND i.id IN :ids
+    """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<String> findNamesByMemberIdAndIdIn(@Param("memberId") Long memberId, @Param("ids") List<Long> ids);
 }
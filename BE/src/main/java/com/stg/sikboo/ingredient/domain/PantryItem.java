@@ -0,0 +1,17 @@
+package com.stg.sikboo.ingredient.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 보유 재료 스냅샷의 한 행 (캐시 보관용 불변 값)
+ * - IngredientRepository.findPantryItemsByMemberId 의 생성자 프로젝션으로 바로 채움(엔티티 로딩 없음)
+ */
+public record PantryItem(
+        Long id,
+        String name,
+        String normalizedName,
+        IngredientLocation location,
+        LocalDateTime due,
+        boolean isDueEstimated,
+        String memo
+) {}
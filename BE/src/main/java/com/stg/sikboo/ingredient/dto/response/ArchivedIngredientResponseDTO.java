@@ -0,0 +1,23 @@
+package com.stg.sikboo.ingredient.dto.response;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+
+/**
+ * 보관(archive)된 재료 응답 DTO
+ *
+ * 예시 응답(JSON)
+ * {
+ *   "id": 141,
+ *   "ingredientName": "대파",
+ *   "location": "냉장고",
+ *   "due": "2025-09-30",
+ *   "archivedAt": "2025-11-01T04:00:12"
+ * }
+ */
+public record ArchivedIngredientResponseDTO(
+        Long id,
+        String ingredientName,
+        IngredientLocation location,
+        String due,         // "YYYY-MM-DD"
+        String archivedAt
+) {}
@@ -0,0 +1,24 @@
+package com.stg.sikboo.ingredient.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 소비기한 임박 알림(WebSocket push)
+ *
+ * 예시(JSON) - /user/queue/expiry-alerts
+ * {
+ *   "memberId": 12,
+ *   "daysLeft": 1,              // 0=오늘, 1=내일, 3=3일 후
+ *   "due": "2025-11-30",
+ *   "items": [ { "id": 141, "name": "우유", "location": "냉장고" } ]
+ * }
+ */
+public record ExpiryAlertMessage(
+        Long memberId,
+        int daysLeft,
+        LocalDate due,
+        List<Item> items
+) {
+    public record Item(Long id, String name, String location) {}
+}
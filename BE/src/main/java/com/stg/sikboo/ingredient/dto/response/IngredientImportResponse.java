@@ -0,0 +1,14 @@
+package com.stg.sikboo.ingredient.dto.response;
+
+/**
+ * 가져오기 결과
+ *
+ * 예시 응답(JSON)
+ * { "total": 1200, "inserted": 1150, "duplicates": 40, "invalid": 10 }
+ */
+public record IngredientImportResponse(
+        int total,       // 읽은 데이터 행 수(헤더/빈 줄 제외)
+        int inserted,    // 실제 저장된 행 수
+        int duplicates,  // 기존 보유분/파일 내 중복으로 건너뜀
+        int invalid      // 형식 오류로 건너뜀
+) {}
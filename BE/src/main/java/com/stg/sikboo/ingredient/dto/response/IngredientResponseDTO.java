@@ -5,6 +5,7 @@ import java.time.ZoneId;
 
 import com.stg.sikboo.ingredient.domain.Ingredient;
 import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.PantryItem;
 
 /**
  * 재료 단건 응답 DTO
@@ -46,4 +47,20 @@ public record IngredientResponseDTO(
                 i.getMemo()
         );
     }
+
+    /** 캐시 스냅샷 행 → 응답 DTO */
+    public static IngredientResponseDTO from(PantryItem i, ZoneId zone) {
+        var dueDate = i.due().toLocalDate();
+        long days = java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(zone), dueDate);
+        return new IngredientResponseDTO(
+                i.id(),
+                i.name(),
+                i.location(),
+                dueDate.toString(),
+                days,
+                i.isDueEstimated(),
+                days < 0,
+                i.memo()
+        );
+    }
 }
@@ -0,0 +1,17 @@
+package com.stg.sikboo.ingredient.dto.response;
+
+/**
+ * 가져오기/내보내기 한 줄(NDJSON 1줄 = CSV 1행)
+ *
+ * 예시(NDJSON)
+ * {"ingredientName":"대파","location":"냉장고","due":"2025-11-30","isDueEstimated":true,"memo":"볶음용"}
+ *
+ * - 가져오기 시 due 가 비어 있으면 보관 기간표로 추정(isDueEstimated=true)
+ */
+public record IngredientTransferRow(
+        String ingredientName,
+        String location,
+        String due,          // "YYYY-MM-DD"
+        Boolean isDueEstimated,
+        String memo
+) {}
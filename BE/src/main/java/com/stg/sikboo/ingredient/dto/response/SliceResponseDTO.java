@@ -0,0 +1,24 @@
+package com.stg.sikboo.ingredient.dto.response;
+
+import java.util.List;
+
+/**
+ * 무한 스크롤(키셋) 응답 래퍼 - count 쿼리 없이 다음 페이지 존재 여부만 판단
+ *
+ *
+ * 예시 응답(JSON)
+ * {
+ *   "content": [ { ...IngredientResponseDTO... }, ... ],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "MjAyNS0xMS0zMFQwMDowMAoxNDEK64yA7YyM",
+ *   "totalElements": null      // withTotal=true 로 요청했을 때만 채워짐
+ * }
+ */
+public record SliceResponseDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,   // hasNext=false 면 null
+        Long totalElements
+) {}
@@ -0,0 +1,125 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다중 패턴 문자열 검색(Aho-Corasick) 오토마톤
+ *
+ * - 생성 시 패턴 목록으로 트라이 + 실패 링크를 구성하고, 이후에는 불변(스레드 안전)
+ * - 노드별 자식은 정렬된 char[] / int[] 로 압축(이진 탐색)
+ * - findAll: 텍스트 1회 스캔으로 모든 패턴 출현 위치를 반환 O(텍스트 길이 + 매치 수)
+ */
+public final class AhoCorasick {
+
+    private static final int NONE = -1;
+
+    private final char[][] edgeChars;   // 노드별 자식 문자(정렬)
+    private final int[][] edgeTargets;  // 노드별 자식 노드 번호
+    private final int[] fail;           // 실패 링크
+    private final int[] output;         // 이 노드에서 끝나는 패턴 번호(NONE=없음)
+    private final int[] dictLink;       // 실패 링크를 따라 가장 가까운 "패턴 끝" 노드
+    private final int[] patternLengths;
+
+    public AhoCorasick(List<String> patterns) {
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outs = new ArrayList<>();
+        children.add(new HashMap<>());
+        outs.add(NONE);
+
+        patternLengths = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            patternLengths[p] = pattern.length();
+            if (pattern.isEmpty()) continue;
+
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer nextNode = children.get(node).get(c);
+                if (nextNode == null) {
+                    nextNode = children.size();
+                    children.get(node).put(c, nextNode);
+                    children.add(new HashMap<>());
+                    outs.add(NONE);
+                }
+                node = nextNode;
+            }
+            if (outs.get(node) == NONE) outs.set(node, p); // 중복 패턴은 먼저 나온 것 유지
+        }
+
+        int n = children.size();
+        edgeChars = new char[n][];
+        edgeTargets = new int[n][];
+        fail = new int[n];
+        output = new int[n];
+        dictLink = new int[n];
+
+        for (int v = 0; v < n; v++) {
+            Map<Character, Integer> m = children.get(v);
+            char[] keys = new char[m.size()];
+            int k = 0;
+            for (char c : m.keySet()) keys[k++] = c;
+            Arrays.sort(keys);
+            int[] targets = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) targets[i] = m.get(keys[i]);
+            edgeChars[v] = keys;
+            edgeTargets[v] = targets;
+            output[v] = outs.get(v);
+        }
+
+        // BFS 로 실패 링크 / 사전 링크 계산
+        Arrays.fill(dictLink, NONE);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            for (int i = 0; i < edgeChars[v].length; i++) {
+                char c = edgeChars[v][i];
+                int u = edgeTargets[v][i];
+                int f = fail[v];
+                while (f != 0 && child(f, c) == NONE) f = fail[f];
+                int fc = child(f, c);
+                fail[u] = (fc != NONE && fc != u) ? fc : 0;
+                dictLink[u] = output[fail[u]] != NONE ? fail[u] : dictLink[fail[u]];
+                queue.add(u);
+            }
+        }
+    }
+
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != 0 && child(node, c) == NONE) node = fail[node];
+            int next = child(node, c);
+            node = (next == NONE) ? 0 : next;
+
+            for (int v = output[node] != NONE ? node : dictLink[node]; v != NONE; v = dictLink[v]) {
+                int p = output[v];
+                matches.add(new Match(i + 1 - patternLengths[p], i + 1, p));
+            }
+        }
+        return matches;
+    }
+
+    private int child(int node, char c) {
+        int idx = Arrays.binarySearch(edgeChars[node], c);
+        return idx >= 0 ? edgeTargets[node][idx] : NONE;
+    }
+
+    /** [start, end) 구간에 pattern 번째 패턴이 출현 */
+    public record Match(int start, int end, int pattern) {
+        public int length() {
+            return end - start;
+        }
+    }
+}
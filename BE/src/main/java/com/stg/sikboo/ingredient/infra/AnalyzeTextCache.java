@@ -0,0 +1,103 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.dto.response.IngredientItem;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 자연어 분석(analyze-text) 결과 캐시
+ *
+ * - 키: TextSanitizer 로 정제한 입력 문장 (회원과 무관한 결과이므로 회원 간 공유)
+ * - 크기 제한(LRU) + 짧은 TTL
+ * - IngredientItem 은 가변 객체라 저장/조회 시 복사본을 주고받음
+ * - 적중/미적중 횟수는 카운터로 집계하고 주기적으로 로그에 남김
+ */
+@Slf4j
+@Component
+public class AnalyzeTextCache {
+
+    // 몇 번 조회마다 적중률 로그를 남길지
+    private static final long STATS_LOG_EVERY = 100;
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public AnalyzeTextCache(
+            @Value("${app.ai.analyze-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.ai.analyze-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.ttlMillis = ttlSeconds * 1000;
+        // access-order LinkedHashMap → 가장 오래 안 쓴 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Optional<List<IngredientItem>> get(String key) {
+        if (key == null || key.isEmpty()) return Optional.empty();
+
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(key);
+            if (e != null && e.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                e = null;
+            }
+        }
+
+        if (e == null) {
+            record(misses);
+            return Optional.empty();
+        }
+        record(hits);
+        return Optional.of(copyOf(e.items()));
+    }
+
+    public void put(String key, List<IngredientItem> items) {
+        if (key == null || key.isEmpty() || items == null) return;
+        Entry e = new Entry(copyOf(items), System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, e);
+        }
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    private void record(AtomicLong counter) {
+        counter.incrementAndGet();
+        long h = hits.get();
+        long m = misses.get();
+        if ((h + m) % STATS_LOG_EVERY == 0) {
+            log.info("AI 분석 캐시 통계 - hit: {}, miss: {}, 적중률: {}%", h, m, h * 100 / Math.max(1, h + m));
+        }
+    }
+
+    private static List<IngredientItem> copyOf(List<IngredientItem> items) {
+        return items.stream()
+                .map(i -> new IngredientItem(i.getName(), i.getStorage(), i.getExpiryDays()))
+                .toList();
+    }
+
+    private record Entry(List<IngredientItem> items, long expiresAt) {}
+}
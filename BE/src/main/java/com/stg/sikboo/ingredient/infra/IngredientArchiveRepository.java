@@ -0,0 +1,93 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.dto.response.ArchivedIngredientResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ingredient ↔ ingredient_archive 이동 (JDBC, 한 문장 = 한 배치)
+ *
+ * - 이동: 대상 행을 FOR UPDATE SKIP LOCKED 로 골라(사용 중인 행은 건너뜀) DELETE ... RETURNING → archive INSERT
+ * - 한 문장이라 중간 실패 시 통째로 롤백(삭제만 되고 보관 안 되는 경우 없음)
+ * - 대상 선택은 idx_ing_due_day_member((due::date), ...) 범위 스캔
+ */
+@Repository
+@RequiredArgsConstructor
+public class IngredientArchiveRepository {
+
+    private static final String MOVE_EXPIRED = """
+        WITH moved AS (
+          DELETE FROM ingredient
+          WHERE ingredient_id IN (
+            SELECT ingredient_id
+            FROM ingredient
+            WHERE CAST(due AS date) < ?
+            ORDER BY CAST(due AS date)
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+          )
+          RETURNING ingredient_id, member_id, ingredient_name, normalized_name,
+                    location, due, is_due_estimated, memo
+        )
+        INSERT INTO ingredient_archive
+          (ingredient_id, member_id, ingredient_name, normalized_name, location, due, is_due_estimated, memo)
+        SELECT ingredient_id, member_id, ingredient_name, normalized_name, location, due, is_due_estimated, memo
+        FROM moved
+        RETURNING member_id
+        """;
+
+    // 유니크 인덱스(uq_ing_member_loc_day_norm) 충돌 시 예외 → 문장 전체 롤백(archive 행 유지)
+    private static final String RESTORE = """
+        WITH restored AS (
+          DELETE FROM ingredient_archive
+          WHERE ingredient_id = ? AND member_id = ?
+          RETURNING ingredient_id, member_id, ingredient_name, normalized_name,
+                    location, due, is_due_estimated, memo
+        )
+        INSERT INTO ingredient
+          (ingredient_id, member_id, ingredient_name, normalized_name, location, due, is_due_estimated, memo)
+        SELECT ingredient_id, member_id, ingredient_name, normalized_name, location, due, is_due_estimated, memo
+        FROM restored
+        """;
+
+    private static final String FIND_BY_MEMBER = """
+        SELECT a.ingredient_id, a.ingredient_name, a.location,
+               to_char(a.due, 'YYYY-MM-DD') AS due,
+               to_char(a.archived_at, 'YYYY-MM-DD"T"HH24:MI:SS') AS archived_at
+        FROM ingredient_archive a
+        WHERE a.member_id = ? AND a.ingredient_id < ?
+        ORDER BY a.ingredient_id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbc;
+
+    /** cutoff 날짜 이전 기한의 재료를 최대 limit 건 이동. 이동된 행의 member_id 목록 반환 */
+    public List<Long> moveExpiredBatch(LocalDate cutoff, int limit) {
+        return jdbc.queryForList(MOVE_EXPIRED, Long.class, Date.valueOf(cutoff), limit);
+    }
+
+    /** 복원된 행 수(0 = 없음) */
+    public int restore(Long memberId, Long id) {
+        return jdbc.update(RESTORE, id, memberId);
+    }
+
+    /** 회원 보관 목록(id 내림차순, beforeId 미만) */
+    public List<ArchivedIngredientResponseDTO> findByMember(Long memberId, long beforeId, int limit) {
+        return jdbc.query(FIND_BY_MEMBER, (rs, i) -> new ArchivedIngredientResponseDTO(
+                rs.getLong("ingredient_id"),
+                rs.getString("ingredient_name"),
+                IngredientLocation.from(rs.getString("location")),
+                rs.getString("due"),
+                rs.getString("archived_at")
+        ), memberId, beforeId, limit);
+    }
+}
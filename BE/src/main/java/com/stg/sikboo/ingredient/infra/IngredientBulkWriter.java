@@ -0,0 +1,82 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.domain.Ingredient;
+import com.stg.sikboo.ingredient.domain.IngredientNameNormalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재료 일괄 저장 전용 JDBC writer
+ *
+ * Ingredient 는 IDENTITY 전략이라 JPA saveAll 이 행마다 INSERT 왕복을 한다(Hibernate 배치 비활성).
+ * 여기서는 CHUNK_SIZE 행씩 multi-row INSERT 한 문장으로 보내고,
+ * 유니크 인덱스(uq_ing_member_loc_day_norm) 충돌 행은 ON CONFLICT DO NOTHING 으로 건너뛴다.
+ *
+ * - JPA 콜백을 타지 않으므로 normalized_name 은 여기서 직접 계산
+ * - 진행 중인 트랜잭션(JpaTransactionManager)이 있으면 같은 커넥션으로 참여
+ * - 반환값은 실제로 INSERT 된 행 수(충돌로 건너뛴 행 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientBulkWriter {
+
+    // 7 컬럼 × 500 행 = 3,500 바인드 (PostgreSQL 한도 32,767 이내)
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_HEAD = """
+        INSERT INTO ingredient
+          (member_id, ingredient_name, normalized_name, location, due, is_due_estimated, memo)
+        VALUES
+        """;
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAIL = " ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbc;
+
+    public int insertAll(List<Ingredient> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+
+        long started = System.nanoTime();
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Ingredient> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            inserted += insertChunk(chunk);
+        }
+
+        long elapsedMicros = Math.max(1, (System.nanoTime() - started) / 1_000);
+        log.debug("재료 일괄 INSERT - 요청: {}행, 저장: {}행, {}ms, {} rows/s",
+                rows.size(), inserted, elapsedMicros / 1_000, rows.size() * 1_000_000L / elapsedMicros);
+        return inserted;
+    }
+
+    private int insertChunk(List<Ingredient> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_HEAD.length() + chunk.size() * (ROW.length() + 2) + INSERT_TAIL.length());
+        sql.append(INSERT_HEAD);
+        List<Object> args = new ArrayList<>(chunk.size() * 7);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Ingredient ing = chunk.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+            args.add(ing.getMemberId());
+            args.add(ing.getIngredientName());
+            args.add(IngredientNameNormalizer.normalize(ing.getIngredientName()));
+            args.add(ing.getLocation().name());
+            args.add(Timestamp.valueOf(ing.getDue()));
+            args.add(ing.isDueEstimated());
+            args.add(ing.getMemo());
+        }
+        sql.append(INSERT_TAIL);
+
+        return jdbc.update(sql.toString(), args.toArray());
+    }
+}
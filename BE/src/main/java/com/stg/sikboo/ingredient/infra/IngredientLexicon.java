@@ -0,0 +1,137 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.onboarding.infra.TextSanitizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 번들 식재료 사전(classpath:ingredient/lexicon.tsv)
+ *
+ * - 대표 이름 + 별칭을 모두 패턴으로 Aho-Corasick 오토마톤에 컴파일(기동 시 1회)
+ * - 패턴 번호 → 사전 항목 배열로 바로 조회
+ * - 사전 파일이 없거나 깨져 있으면 빈 사전으로 동작(규칙 추출은 항상 실패 → LLM 폴백)
+ */
+@Slf4j
+@Component
+public class IngredientLexicon {
+
+    private static final String RESOURCE = "ingredient/lexicon.tsv";
+
+    private final AhoCorasick automaton;
+    private final Entry[] patternEntries;       // 패턴 번호 → 사전 항목
+    private final Map<String, Entry> byName;    // 정규화 이름(대표/별칭) → 사전 항목
+
+    public IngredientLexicon() {
+        List<String> patterns = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+        Map<String, Entry> names = new HashMap<>();
+
+        for (String[] cols : readRows()) {
+            if (cols.length < 3) continue;
+            IngredientLocation storage;
+            try {
+                storage = IngredientLocation.from(cols[2].trim());
+            } catch (IllegalArgumentException e) {
+                log.warn("식재료 사전 보관 위치 오류, 건너뜀: {}", String.join("\t", cols));
+                continue;
+            }
+            Entry entry = new Entry(cols[0].trim(), cols[1].trim(), storage);
+
+            List<String> surfaces = new ArrayList<>();
+            surfaces.add(entry.name());
+            if (cols.length > 3) {
+                for (String alias : cols[3].split(",")) surfaces.add(alias);
+            }
+            for (String surface : surfaces) {
+                String key = normalize(surface);
+                if (key.isEmpty() || names.putIfAbsent(key, entry) != null) continue;
+                patterns.add(key);
+                entries.add(entry);
+            }
+        }
+
+        this.automaton = new AhoCorasick(patterns);
+        this.patternEntries = entries.toArray(new Entry[0]);
+        this.byName = Map.copyOf(names);
+        log.info("식재료 사전 로드: 패턴 {}개", patterns.size());
+    }
+
+    /** 텍스트 안의 모든 사전 패턴 출현 위치. text 는 normalize() 기준으로 맞춰서 넘길 것 */
+    public List<AhoCorasick.Match> findAll(CharSequence text) {
+        return automaton.findAll(text);
+    }
+
+    public Entry entryOf(AhoCorasick.Match match) {
+        return patternEntries[match.pattern()];
+    }
+
+    /** 이름(대표/별칭)으로 사전 항목 조회 */
+    public Optional<Entry> lookup(String name) {
+        if (name == null) return Optional.empty();
+        return Optional.ofNullable(byName.get(normalize(name)));
+    }
+
+    /**
+     * 이름에 가장 가까운 사전 항목: 정확히 일치하면 그 항목, 아니면 이름 안의 가장 긴 매치
+     * (예: "서울우유" → 우유, "국산콩두부" → 두부)
+     */
+    public Optional<Entry> lookupWithin(String name) {
+        if (name == null) return Optional.empty();
+        String key = normalize(name);
+        Entry exact = byName.get(key);
+        if (exact != null) return Optional.of(exact);
+
+        AhoCorasick.Match best = null;
+        for (AhoCorasick.Match m : automaton.findAll(key)) {
+            if (best == null || m.length() > best.length()) best = m;
+        }
+        return best == null ? Optional.empty() : Optional.of(patternEntries[best.pattern()]);
+    }
+
+    public boolean isEmpty() {
+        return patternEntries.length == 0;
+    }
+
+    /** 사전/입력 공통 정규화: 정제(NFKC, 따옴표/제로폭 제거, 공백 정리) + 소문자 */
+    public static String normalize(String s) {
+        return TextSanitizer.sanitize(s).toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String[]> readRows() {
+        List<String[]> rows = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource(RESOURCE);
+        if (!resource.exists()) {
+            log.warn("식재료 사전 파일 없음: {}", RESOURCE);
+            return rows;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                rows.add(line.split("\t"));
+            }
+        } catch (IOException e) {
+            log.warn("식재료 사전 로드 실패: {}", e.getMessage());
+        }
+        return rows;
+    }
+
+    /** 사전 항목: 대표 이름, 분류, 기본 보관 위치 */
+    public record Entry(String name, String category, IngredientLocation storage) {}
+}
@@ -0,0 +1,64 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 단위로 들어오는 JSON 배열 응답에서 최상위 객체({...})가 닫힐 때마다 잘라서 돌려주는 파서
+ *
+ * - 중괄호 깊이 + 문자열/이스케이프 상태만 추적 (문자열 안의 { } 는 무시)
+ * - 객체 바깥 문자([ ] , 공백, 마크다운 ``` 등)는 버림
+ * - 스트림 1개당 인스턴스 1개 (상태 보유, 스레드 안전하지 않음)
+ */
+public final class JsonObjectStreamSplitter {
+
+    private final StringBuilder current = new StringBuilder();
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    /** 새 조각을 넣고, 이번 조각으로 완성된 객체 JSON 들을 반환 */
+    public List<String> feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) return List.of();
+
+        List<String> completed = new ArrayList<>(1);
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+
+            if (depth == 0) {
+                if (c == '{') {
+                    depth = 1;
+                    current.setLength(0);
+                    current.append(c);
+                }
+                continue;
+            }
+
+            current.append(c);
+            if (inString) {
+                if (escaped) escaped = false;
+                else if (c == '\\') escaped = true;
+                else if (c == '"') inString = false;
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> inString = true;
+                case '{' -> depth++;
+                case '}' -> {
+                    if (--depth == 0) {
+                        completed.add(current.toString());
+                        current.setLength(0);
+                    }
+                }
+                default -> { }
+            }
+        }
+        return completed;
+    }
+
+    /** 닫히지 않은 객체가 남아 있는지 (스트림이 객체 중간에서 끝났으면 true) */
+    public boolean hasPartial() {
+        return depth > 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.stg.sikboo.ingredient.domain.PantryItem;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 보유 재료 스냅샷 캐시 (재료 목록 / 레시피 재료 선택에서 공유)
+ *
+ * - 스냅샷: 회원의 전체 재료(id 내림차순)를 불변 리스트로 보관, LRU 로 회원 수 제한
+ *   (적재는 프로젝션 쿼리 → 엔티티를 영속성 컨텍스트에 올리지 않음)
+ * - 버전: 쓰기마다 증가하는 전역 카운터. 항목에 무효화 시점 버전을 남겨 두고(스냅샷 대신 "무효화됨" 항목),
+ *   적재 시작 때 본 버전과 저장 직전 버전이 다르면 적재 결과를 버림(오래된 스냅샷 방지)
+ *   → 버전도 entries 안에 있으므로 같은 LRU 로 함께 정리됨
+ * - 무효화: 호출 즉시 + 트랜잭션 종료 직후 한 번 더 (커밋 전 다른 요청이 옛 데이터로 다시 채우는 것 방지)
+ * - 재료가 너무 많은 회원은 "너무 큼" 표시만 남기고 DB 조회로 돌림 (적재는 maxItems + 1 건까지만 읽음)
+ */
+@Slf4j
+@Component
+public class PantrySnapshotCache {
+
+    // 몇 번 조회마다 적중률 로그를 남길지
+    private static final long STATS_LOG_EVERY = 100;
+
+    private final int maxItems;
+    private final Map<Long, Entry> entries;
+    // 무효화마다 증가 (entries 잠금 안에서만 변경)
+    private long clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PantrySnapshotCache(
+            @Value("${app.pantry-cache.max-members:10000}") int maxMembers,
+            @Value("${app.pantry-cache.max-items:2000}") int maxItems
+    ) {
+        this.maxItems = maxItems;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxMembers;
+            }
+        };
+    }
+
+    /**
+     * 스냅샷 조회(없으면 loader 로 적재). 재료가 maxItems 를 넘는 회원은 Optional.empty() → DB 조회
+     *
+     * @param loader (회원 id, 최대 건수) → id 내림차순 PantryItem 프로젝션 (IngredientRepository.findPantryItemsByMemberId)
+     */
+    public Optional<List<PantryItem>> getOrLoad(Long memberId, BiFunction<Long, Integer, List<PantryItem>> loader) {
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(memberId);
+        }
+        if (e != null && e.loaded()) {
+            record(hits);
+            return Optional.ofNullable(e.items());
+        }
+        record(misses);
+        long version = versionOf(e);
+
+        // maxItems + 1 건이 오면 "너무 큼" (전체를 읽지 않음)
+        List<PantryItem> rows = loader.apply(memberId, maxItems + 1);
+        List<PantryItem> items = rows.size() > maxItems ? null : List.copyOf(rows);
+
+        synchronized (entries) {
+            // 적재하는 사이 쓰기가 있었으면 저장하지 않음
+            if (versionOf(entries.get(memberId)) == version) {
+                entries.put(memberId, Entry.of(version, items));
+            }
+        }
+        return Optional.ofNullable(items);
+    }
+
+    /**
+     * 적재 없이 현재 스냅샷만 조회. 없으면(또는 너무 큰 회원) Optional.empty() → 호출 쪽이 더 좁은 프로젝션으로 조회
+     */
+    public Optional<List<PantryItem>> peek(Long memberId) {
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(memberId);
+        }
+        if (e != null && e.loaded() && e.items() != null) {
+            record(hits);
+            return Optional.of(e.items());
+        }
+        record(misses);
+        return Optional.empty();
+    }
+
+    /** 회원 재료가 바뀌었을 때 호출 (생성/수정/삭제/일괄 저장) */
+    public void invalidate(Long memberId) {
+        evict(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(memberId);
+                }
+            });
+        }
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    // 스냅샷을 지우고 "무효화됨" 항목(새 버전)으로 바꿔 둠 → 진행 중인 적재가 옛 결과를 저장하지 못함
+    private void evict(Long memberId) {
+        synchronized (entries) {
+            entries.put(memberId, Entry.invalidated(++clock));
+        }
+    }
+
+    // 항목이 없으면(처음이거나 LRU 로 밀려남) 0
+    private static long versionOf(Entry e) {
+        return e == null ? 0L : e.version();
+    }
+
+    private void record(AtomicLong counter) {
+        counter.incrementAndGet();
+        long h = hits.get();
+        long m = misses.get();
+        if ((h + m) % STATS_LOG_EVERY == 0) {
+            log.info("재료 스냅샷 캐시 통계 - hit: {}, miss: {}, 적중률: {}%", h, m, h * 100 / Math.max(1, h + m));
+        }
+    }
+
+    /** loaded == false 면 무효화 표시(스냅샷 없음), items == null 이면 "너무 커서 캐시하지 않음" 표시 */
+    private record Entry(long version, boolean loaded, List<PantryItem> items) {
+
+        static Entry of(long version, List<PantryItem> items) {
+            return new Entry(version, true, items);
+        }
+
+        static Entry invalidated(long version) {
+            return new Entry(version, false, null);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.dto.response.IngredientItem;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 규칙 기반 식재료 추출기 (LLM 호출 전 빠른 경로)
+ *
+ * - 사전(Aho-Corasick)으로 식재료 이름을 leftmost-longest 로 찾음
+ * - "냉동/냉장/실온" 보관 표현, "3일 남았어" 같은 기한 표현은 정규식 규칙으로 처리
+ * - 나머지 조각이 전부 조사/수량/흔한 서술어일 때만 "확신"으로 보고 결과를 반환
+ * - 하나라도 모르는 조각이 있거나 해석이 애매하면 Optional.empty() → 호출 측에서 LLM 으로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RuleBasedIngredientExtractor {
+
+    // 이보다 긴 문장은 규칙으로 다루지 않음(설명형 문장일 가능성이 큼)
+    private static final int MAX_INPUT_LENGTH = 200;
+
+    // 보관 위치 표현 (긴 것부터)
+    private static final Pattern STORAGE = Pattern.compile("냉장고|냉장실|냉장|냉동고|냉동실|냉동|실온|상온");
+
+    // 남은 기한 표현: "3일 남았어", "일주일 정도", "한 달 뒤" ...
+    private static final Pattern EXPIRY = Pattern.compile(
+        "(?:(\\d{1,3})\\s*일|(일주일)|(한\\s*달))\\s*"
+            + "(?:남았어요|남았어|남았다|남았음|남음|남|정도|뒤|후|까지|안에|이내|짜리)"
+    );
+
+    // 수량 표현(+조사): "2개", "한 팩", "500g", "두 봉지씩" ... (띄어 쓰면 수/단위가 따로 들어옴)
+    private static final Pattern QUANTITY = Pattern.compile(
+        "(?:\\d+|한|두|세|네|다섯|여섯|일곱|여덟|아홉|열)?"
+            + "(?:개|봉|봉지|봉투|팩|병|캔|kg|g|ml|l|단|모|마리|통|알|줄|장|포기|묶음|판|근|망|박스)?"
+            + "(?:씩|랑|이랑|하고|와|과|도|을|를|이|가)?"
+    );
+
+    // 조각 구분자
+    private static final Pattern SEPARATOR = Pattern.compile("[\\s,./·、+&!?~…()\\-]+");
+
+    // 식재료 사이/뒤에 와도 의미를 바꾸지 않는 조각
+    private static final Set<String> FILLERS = Set.of(
+        "랑", "이랑", "하고", "와", "과", "및", "그리고", "또", "도", "은", "는", "이", "가", "을", "를",
+        "에", "에다", "에다가", "에서", "에는", "에도", "으로", "로", "좀", "들", "다", "전부", "각각", "요",
+        "오늘", "어제", "방금", "아까", "마트에서", "장봐서", "장보고",
+        "샀어", "샀어요", "샀다", "샀음", "삼", "사옴", "사왔어", "사왔어요", "구매", "구입", "했어", "했어요", "함",
+        "있어", "있어요", "있음", "있다", "넣었어", "넣었어요", "넣음", "넣어둠", "넣어뒀어", "보관", "보관중", "보관함",
+        "남았어", "남았어요", "남았다", "남음", "유통기한", "소비기한", "기한", "정도", "쯤"
+    );
+
+    private final IngredientLexicon lexicon;
+    private final ShelfLifeKnowledgeBase shelfLife;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * 확신할 수 있을 때만 결과를 돌려줌. 비어 있으면 LLM 으로 넘길 것
+     */
+    public Optional<List<IngredientItem>> extract(String text) {
+        Optional<List<IngredientItem>> result = tryExtract(text);
+        if (result.isPresent()) {
+            hits.incrementAndGet();
+            log.debug("규칙 추출 성공: {}개 항목", result.get().size());
+        } else {
+            fallbacks.incrementAndGet();
+        }
+        return result;
+    }
+
+    /** 이름만 필요할 때(온보딩) */
+    public Optional<List<String>> extractNames(String text) {
+        return extract(text).map(items -> items.stream().map(IngredientItem::getName).toList());
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long fallbackCount() {
+        return fallbacks.get();
+    }
+
+    private Optional<List<IngredientItem>> tryExtract(String text) {
+        if (text == null || lexicon.isEmpty()) return Optional.empty();
+        String t = IngredientLexicon.normalize(text);
+        if (t.isEmpty() || t.length() > MAX_INPUT_LENGTH) return Optional.empty();
+
+        boolean[] covered = new boolean[t.length()];
+
+        // 1) 사전 매치 (leftmost-longest, 겹치지 않게)
+        List<AhoCorasick.Match> matches = selectLeftmostLongest(lexicon.findAll(t), covered);
+        if (matches.isEmpty()) return Optional.empty();
+
+        // 띄어쓰기 없이 붙은 두 매치(예: 배추김치 → 배추+김치)는 복합어일 수 있어 LLM 에 맡김
+        for (int i = 1; i < matches.size(); i++) {
+            if (matches.get(i).start() == matches.get(i - 1).end()) return Optional.empty();
+        }
+
+        // 2) 보관 위치 표현: 서로 다른 위치가 섞이면 어떤 재료에 해당하는지 애매 → 폴백
+        IngredientLocation storage = null;
+        Matcher sm = STORAGE.matcher(t);
+        while (sm.find()) {
+            if (!claim(covered, sm.start(), sm.end())) continue;
+            IngredientLocation loc = storageOf(sm.group());
+            if (storage != null && storage != loc) return Optional.empty();
+            storage = loc;
+        }
+
+        // 3) 기한 표현: 값이 하나일 때만 인정
+        Integer expiryDays = null;
+        Matcher em = EXPIRY.matcher(t);
+        while (em.find()) {
+            if (!claim(covered, em.start(), em.end())) continue;
+            int days = em.group(1) != null ? Integer.parseInt(em.group(1))
+                     : em.group(2) != null ? 7
+                     : 30;
+            if (expiryDays != null && expiryDays != days) return Optional.empty();
+            expiryDays = days;
+        }
+
+        // 4) 남은 조각이 전부 조사/수량/서술어여야 확신
+        if (!residualIsFiller(t, covered)) return Optional.empty();
+
+        // 이름은 사용자가 쓴 표기(매치된 부분) 그대로. 대표 항목은 분류/보관/기한 조회에만 사용
+        // (단호박 → "단호박" 으로 저장, 보관/기한은 호박 기준). 같은 표기끼리만 중복 제거(입력 순서 유지)
+        Map<String, IngredientLexicon.Entry> entries = new LinkedHashMap<>();
+        for (AhoCorasick.Match m : matches) {
+            entries.putIfAbsent(t.substring(m.start(), m.end()), lexicon.entryOf(m));
+        }
+
+        // 기한이 하나인데 재료가 여러 개면 어느 재료 얘기인지 애매 → 폴백
+        if (expiryDays != null && entries.size() > 1) return Optional.empty();
+
+        List<IngredientItem> items = new ArrayList<>(entries.size());
+        for (Map.Entry<String, IngredientLexicon.Entry> me : entries.entrySet()) {
+            IngredientLexicon.Entry e = me.getValue();
+            IngredientLocation loc = storage != null ? storage : e.storage();
+            int days = expiryDays != null ? expiryDays : shelfLife.estimateDays(e.name(), loc);
+            items.add(new IngredientItem(me.getKey(), loc.getLabel(), days));
+        }
+        return Optional.of(items);
+    }
+
+    private static List<AhoCorasick.Match> selectLeftmostLongest(List<AhoCorasick.Match> all, boolean[] covered) {
+        List<AhoCorasick.Match> sorted = new ArrayList<>(all);
+        sorted.sort(Comparator.comparingInt(AhoCorasick.Match::start)
+                .thenComparing(Comparator.comparingInt(AhoCorasick.Match::length).reversed()));
+
+        List<AhoCorasick.Match> selected = new ArrayList<>();
+        for (AhoCorasick.Match m : sorted) {
+            if (claim(covered, m.start(), m.end())) selected.add(m);
+        }
+        return selected;
+    }
+
+    /** [start, end) 가 아직 비어 있으면 차지하고 true */
+    private static boolean claim(boolean[] covered, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (covered[i]) return false;
+        }
+        for (int i = start; i < end; i++) covered[i] = true;
+        return true;
+    }
+
+    private static boolean residualIsFiller(String t, boolean[] covered) {
+        int i = 0;
+        while (i < t.length()) {
+            if (covered[i]) { i++; continue; }
+            int j = i;
+            while (j < t.length() && !covered[j]) j++;
+            for (String token : SEPARATOR.split(t.substring(i, j))) {
+                if (token.isEmpty()) continue;
+                if (!FILLERS.contains(token) && !QUANTITY.matcher(token).matches()) return false;
+            }
+            i = j;
+        }
+        return true;
+    }
+
+    private static IngredientLocation storageOf(String phrase) {
+        if (phrase.startsWith("냉동")) return IngredientLocation.냉동실;
+        if (phrase.startsWith("냉장")) return IngredientLocation.냉장고;
+        return IngredientLocation.실온;
+    }
+}
@@ -0,0 +1,131 @@
+package com.stg.sikboo.ingredient.infra;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.IngredientNameNormalizer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간표(classpath:ingredient/shelf-life.tsv)
+ *
+ * - 기동 시 1회 로드 후 불변 Map<String, int[]> 로 보관 (int[] 는 IngredientLocation.ordinal() 인덱스, 0=미지정)
+ * - 조회: 이름별 예외 → 사전(IngredientLexicon) 분류 → 위치 기본값(냉장고 7 / 냉동실 90 / 실온 3)
+ * - 이름 정규화 + 해시 조회 + 사전 오토마톤 1회 스캔 → 이름 길이에 비례
+ */
+@Slf4j
+@Component
+public class ShelfLifeKnowledgeBase {
+
+    private static final String RESOURCE = "ingredient/shelf-life.tsv";
+
+    // 위치별 기본 보관일 (표/사전에 없는 재료)
+    private static final int DAYS_FRIDGE = 7;   // 냉장고
+    private static final int DAYS_FREEZER = 90; // 냉동실
+    private static final int DAYS_ROOM = 3;     // 실온
+
+    private static final int LOCATIONS = IngredientLocation.values().length;
+
+    private final IngredientLexicon lexicon;
+    private final Map<String, int[]> byName;      // 정규화 이름 → 위치별 일수
+    private final Map<String, int[]> byCategory;  // 분류 → 위치별 일수
+
+    public ShelfLifeKnowledgeBase(IngredientLexicon lexicon) {
+        this.lexicon = lexicon;
+
+        Map<String, int[]> names = new HashMap<>();
+        Map<String, int[]> categories = new HashMap<>();
+        load(names, categories);
+
+        this.byName = Map.copyOf(names);
+        this.byCategory = Map.copyOf(categories);
+        log.info("보관 기간표 로드: 이름 {}개, 분류 {}개", byName.size(), byCategory.size());
+    }
+
+    /** 오늘 기준 남은 보관일 추정 */
+    public int estimateDays(String name, IngredientLocation loc) {
+        int idx = loc.ordinal();
+
+        int days = daysOf(byName.get(IngredientNameNormalizer.normalize(name)), idx);
+        if (days > 0) return days;
+
+        Optional<IngredientLexicon.Entry> entry = lexicon.lookupWithin(name);
+        if (entry.isPresent()) {
+            days = daysOf(byName.get(IngredientNameNormalizer.normalize(entry.get().name())), idx);
+            if (days > 0) return days;
+            days = daysOf(byCategory.get(entry.get().category()), idx);
+            if (days > 0) return days;
+        }
+
+        return defaultDays(loc);
+    }
+
+    public static int defaultDays(IngredientLocation loc) {
+        return switch (loc) {
+            case 냉장고 -> DAYS_FRIDGE;
+            case 냉동실 -> DAYS_FREEZER;
+            case 실온 -> DAYS_ROOM;
+        };
+    }
+
+    private static int daysOf(int[] row, int idx) {
+        return row == null ? 0 : row[idx];
+    }
+
+    private static void load(Map<String, int[]> names, Map<String, int[]> categories) {
+        ClassPathResource resource = new ClassPathResource(RESOURCE);
+        if (!resource.exists()) {
+            log.warn("보관 기간표 파일 없음: {} (위치 기본값만 사용)", RESOURCE);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                try {
+                    parseRow(line.split("\t"), names, categories);
+                } catch (IllegalArgumentException e) {
+                    log.warn("보관 기간표 행 오류, 건너뜀: {} ({})", line, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("보관 기간표 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void parseRow(String[] cols, Map<String, int[]> names, Map<String, int[]> categories) {
+        switch (cols[0]) {
+            case "category" -> {
+                if (cols.length < 2 + LOCATIONS) throw new IllegalArgumentException("열 부족");
+                int[] row = new int[LOCATIONS];
+                for (IngredientLocation loc : IngredientLocation.values()) {
+                    row[loc.ordinal()] = Integer.parseInt(cols[2 + loc.ordinal()].trim());
+                }
+                categories.put(cols[1].trim(), row);
+            }
+            case "item" -> {
+                if (cols.length < 4) throw new IllegalArgumentException("열 부족");
+                int[] row = names.computeIfAbsent(IngredientNameNormalizer.normalize(cols[1]), k -> new int[LOCATIONS]);
+                int days = Integer.parseInt(cols[3].trim());
+                String where = cols[2].trim();
+                if ("*".equals(where)) {
+                    for (int i = 0; i < LOCATIONS; i++) row[i] = days;
+                } else {
+                    row[IngredientLocation.from(where).ordinal()] = days;
+                }
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 행 종류: " + cols[0]);
+        }
+    }
+}
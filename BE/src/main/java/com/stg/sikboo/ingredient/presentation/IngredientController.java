@@ -1,9 +1,14 @@
 package com.stg.sikboo.ingredient.presentation;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,6 +24,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException; // ★ 401 등 상태코드 직접 매핑용
 
 import com.stg.sikboo.ingredient.domain.IngredientLocation;
@@ -26,12 +33,18 @@ import com.stg.sikboo.ingredient.dto.request.AnalyzeTextRequest;
 import com.stg.sikboo.ingredient.dto.request.CreateIngredientRequestDTO;
 import com.stg.sikboo.ingredient.dto.request.UpdateIngredientRequestDTO;
 import com.stg.sikboo.ingredient.dto.response.AnalyzeTextResponse;
+import com.stg.sikboo.ingredient.dto.response.ArchivedIngredientResponseDTO;
+import com.stg.sikboo.ingredient.dto.response.IngredientImportResponse;
 import com.stg.sikboo.ingredient.dto.response.IngredientItem;
 import com.stg.sikboo.ingredient.dto.response.IngredientResponseDTO;
 import com.stg.sikboo.ingredient.dto.response.PageResponseDTO;
+import com.stg.sikboo.ingredient.dto.response.SliceResponseDTO;
+import com.stg.sikboo.ingredient.service.IngredientArchiveService;
 import com.stg.sikboo.ingredient.service.IngredientService;
+import com.stg.sikboo.ingredient.service.IngredientTransferService;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
 
 @RestController
 @RequiredArgsConstructor
@@ -39,6 +52,11 @@ import lombok.RequiredArgsConstructor;
 public class IngredientController {
 
     private final IngredientService service;
+    private final IngredientTransferService transferService;
+    private final IngredientArchiveService archiveService;
+
+    // 스트리밍 분석 응답 최대 유지 시간
+    private static final long STREAM_TIMEOUT_MS = 60_000L;
 
     /** 목록: 내 것만, 위치/검색/정렬/페이징 지원 */
     @GetMapping
@@ -54,6 +72,18 @@ public class IngredientController {
         return service.list(memberId, location, q, page, size, sort, order);
     }
 
+    /** 무한 스크롤: 키셋 커서 기반(count 없음). 전체 건수는 withTotal=true 일 때만 */
+    @GetMapping("/scroll")
+    public SliceResponseDTO<IngredientResponseDTO> scroll(
+            @RequestParam(name = "location", required = false) IngredientLocation location,
+            @RequestParam(name = "q", required = false) String q,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal
+    ) {
+        return service.scroll(currentMemberId(), location, q, cursor, size, withTotal);
+    }
+
     /** 단건 조회: 오너십 강제(findByIdAndMemberId) */
     @GetMapping("/{id}")
     public IngredientResponseDTO get(@PathVariable("id") Long id) {
@@ -97,6 +127,40 @@ public class IngredientController {
         return service.analyzeText(memberId, request.getText());
     }
 
+    /**
+     * AI 자연어 분석 (스트리밍, NDJSON)
+     * - 항목 1개 = JSON 1줄, 모델이 객체를 닫는 즉시 전송
+     * - 요청 스레드는 바로 반환되고 나머지는 비동기로 흘려보냄
+     */
+    @PostMapping(value = "/analyze-text/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter analyzeTextStream(
+        @AuthenticationPrincipal Jwt jwt,
+        @RequestBody AnalyzeTextRequest request
+    ) {
+        Long memberId = currentMemberId();
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_TIMEOUT_MS);
+        AtomicReference<Disposable> subscription = new AtomicReference<>();
+
+        subscription.set(service.analyzeTextStream(memberId, request.getText()).subscribe(
+            item -> {
+                try {
+                    emitter.send(item, MediaType.APPLICATION_JSON);
+                    emitter.send("\n", MediaType.TEXT_PLAIN);
+                } catch (IOException e) {
+                    // 클라이언트 연결 끊김 → 모델 스트림도 중단
+                    Disposable d = subscription.get();
+                    if (d != null) d.dispose();
+                }
+            },
+            emitter::completeWithError,
+            emitter::complete
+        ));
+
+        emitter.onTimeout(() -> subscription.get().dispose());
+        emitter.onError(e -> subscription.get().dispose());
+        return emitter;
+    }
+
     /**
      * AI 분석 결과 저장 (기존 재료에 추가)
      */
@@ -130,6 +194,48 @@ public class IngredientController {
     /** 생성 응답용 심플 DTO */
     public record IdRes(Long id) {}
 
+    /** 내보내기: 내 재료 전체를 NDJSON(기본) 또는 CSV 로 스트리밍 다운로드 */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format
+    ) {
+        Long memberId = currentMemberId();
+        IngredientTransferService.Format f = IngredientTransferService.Format.from(format);
+        StreamingResponseBody body = out -> transferService.export(memberId, f, out);
+        return ResponseEntity.ok()
+                .contentType(f.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ingredients." + f.extension() + "\"")
+                .body(body);
+    }
+
+    /** 가져오기: 요청 본문(NDJSON 또는 CSV)을 한 줄씩 읽어 청크 단위로 저장 */
+    @PostMapping("/import")
+    public IngredientImportResponse importIngredients(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            InputStream body
+    ) throws IOException {
+        Long memberId = currentMemberId();
+        return transferService.importFrom(memberId, IngredientTransferService.Format.from(format), body);
+    }
+
+    /** 보관(archive)된 재료 목록: 최근 보관 순, cursor = 이전 응답의 nextCursor */
+    @GetMapping("/archive")
+    public SliceResponseDTO<ArchivedIngredientResponseDTO> archived(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        Long memberId = currentMemberId();
+        return archiveService.list(memberId, cursor, size);
+    }
+
+    /** 보관된 재료 복원 */
+    @PostMapping("/archive/{id}/restore")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void restore(@PathVariable("id") Long id) {
+        Long memberId = currentMemberId();
+        archiveService.restore(memberId, id);
+    }
+
     /** SecurityContext에서 memberId 클레임 추출 (없으면 401) */
     private Long currentMemberId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,32 @@
+package com.stg.sikboo.ingredient.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.service.ExpiryAlertService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소비기한 임박 알림 스케줄러
+ * 매일 오전 9시(KST)에 D-0 / D-1 / D-3 재료를 회원별로 모아 WebSocket 으로 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiryAlertScheduler {
+
+    private final ExpiryAlertService expiryAlertService;
+
+    /**
+     * 소비기한 임박 알림 전송
+     * 기본 매일 09:00 (cron: 초 분 시 일 월 요일)
+     */
+    @Scheduled(cron = "${app.expiry-alert.cron:0 0 9 * * *}", zone = "Asia/Seoul")
+    public void sendExpiryAlerts() {
+        log.debug("[소비기한 알림 스케줄러] 실행 - 서비스 호출");
+        expiryAlertService.sendAlerts();
+        log.debug("[소비기한 알림 스케줄러] 완료");
+    }
+}
@@ -0,0 +1,32 @@
+package com.stg.sikboo.ingredient.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.service.IngredientArchiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래 지난 재료 보관(archive) 스케줄러
+ * 매일 새벽 4시(KST)에 소비기한이 보관 기준일보다 지난 재료를 ingredient_archive 로 옮깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngredientArchiveScheduler {
+
+    private final IngredientArchiveService archiveService;
+
+    /**
+     * 오래 지난 재료 보관
+     * 기본 매일 04:00 (cron: 초 분 시 일 월 요일)
+     */
+    @Scheduled(cron = "${app.ingredient-archive.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void archiveExpiredIngredients() {
+        log.debug("[재료 보관 스케줄러] 실행 - 서비스 호출");
+        archiveService.archiveExpired();
+        log.debug("[재료 보관 스케줄러] 완료");
+    }
+}
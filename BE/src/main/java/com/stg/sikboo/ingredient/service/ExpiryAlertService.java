@@ -0,0 +1,156 @@
+package com.stg.sikboo.ingredient.service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.stg.sikboo.ingredient.domain.ExpiringIngredientRow;
+import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.ingredient.dto.response.ExpiryAlertMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소비기한 임박 알림 (D-0 / D-1 / D-3)
+ *
+ * - 날짜별로 파티션을 나눠 (member_id, ingredient_id) 키셋으로 batchSize 씩 순회 (프로젝션, 엔티티 로딩 없음)
+ * - 정렬이 회원 순이라 연속된 행을 회원 단위로 묶어 1명당 1건 메시지로 push
+ * - 배치 사이마다 시스템 부하를 확인하고, 높으면 잠시 멈췄다가 이어서 진행(오래 지속되면 이번 실행 중단)
+ * - 트랜잭션 없이 배치마다 짧은 조회만 수행
+ */
+@Slf4j
+@Service
+public class ExpiryAlertService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 알림 대상: 오늘 / 내일 / 3일 후 만료
+    private static final int[] ALERT_DAYS = {0, 1, 3};
+
+    private final IngredientRepository repo;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+
+    private final int batchSize;
+    private final double maxLoadPerCore;
+    private final long pauseMillis;
+    private final int maxPauses;
+
+    // 이전 실행이 길어져 다음 스케줄과 겹치는 경우 방지
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ExpiryAlertService(
+            IngredientRepository repo,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.expiry-alert.batch-size:1000}") int batchSize,
+            @Value("${app.expiry-alert.max-load-per-core:0.8}") double maxLoadPerCore,
+            @Value("${app.expiry-alert.pause-ms:5000}") long pauseMillis,
+            @Value("${app.expiry-alert.max-pauses:60}") int maxPauses
+    ) {
+        this.repo = repo;
+        this.messagingTemplate = messagingTemplate;
+        this.batchSize = batchSize;
+        this.maxLoadPerCore = maxLoadPerCore;
+        this.pauseMillis = pauseMillis;
+        this.maxPauses = maxPauses;
+    }
+
+    /** 전체 회원 대상 1회 실행. 보낸 메시지 수 반환 */
+    public int sendAlerts() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[소비기한 알림] 이전 실행이 아직 진행 중이라 건너뜀");
+            return 0;
+        }
+        try {
+            LocalDate today = LocalDate.now(KST);
+            int sent = 0;
+            for (int daysLeft : ALERT_DAYS) {
+                int partSent = scanDay(today.plusDays(daysLeft), daysLeft);
+                if (partSent < 0) return sent; // 부하로 중단
+                sent += partSent;
+            }
+            log.info("[소비기한 알림] 완료: {}건 전송", sent);
+            return sent;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** 하루치 파티션 순회. 부하 때문에 중단하면 -1 */
+    private int scanDay(LocalDate day, int daysLeft) {
+        long afterMemberId = 0;
+        long afterId = 0;
+        int sent = 0;
+
+        // 회원 경계가 배치 경계와 겹칠 수 있어 진행 중인 회원 묶음은 다음 배치로 이어감
+        Long pendingMemberId = null;
+        List<ExpiryAlertMessage.Item> pendingItems = new ArrayList<>();
+
+        while (true) {
+            if (!waitForCapacity()) {
+                log.warn("[소비기한 알림] 부하가 계속 높아 중단: day={}, 마지막 memberId={}", day, afterMemberId);
+                return -1;
+            }
+
+            List<ExpiringIngredientRow> rows = repo.findExpiringOn(day, afterMemberId, afterId, batchSize);
+
+            for (ExpiringIngredientRow r : rows) {
+                if (pendingMemberId != null && !pendingMemberId.equals(r.getMemberId())) {
+                    push(pendingMemberId, daysLeft, day, pendingItems);
+                    sent++;
+                    pendingItems = new ArrayList<>();
+                }
+                pendingMemberId = r.getMemberId();
+                pendingItems.add(new ExpiryAlertMessage.Item(r.getId(), r.getName(), r.getLocation()));
+            }
+
+            if (rows.size() < batchSize) break;
+            ExpiringIngredientRow last = rows.get(rows.size() - 1);
+            afterMemberId = last.getMemberId();
+            afterId = last.getId();
+        }
+
+        if (pendingMemberId != null) {
+            push(pendingMemberId, daysLeft, day, pendingItems);
+            sent++;
+        }
+        log.debug("[소비기한 알림] D-{} ({}) {}명", daysLeft, day, sent);
+        return sent;
+    }
+
+    // 회원 전용 큐로 전송 (클라이언트는 /user/queue/expiry-alerts 구독, STOMP Principal = 회원 id)
+    private void push(Long memberId, int daysLeft, LocalDate day, List<ExpiryAlertMessage.Item> items) {
+        messagingTemplate.convertAndSendToUser(
+                memberId.toString(), "/queue/expiry-alerts",
+                new ExpiryAlertMessage(memberId, daysLeft, day, items));
+    }
+
+    /** 부하가 기준 이하가 될 때까지 대기. 최대 대기 횟수를 넘기면 false */
+    private boolean waitForCapacity() {
+        for (int i = 0; i <= maxPauses; i++) {
+            if (!overloaded()) return true;
+            if (i == maxPauses) break;
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean overloaded() {
+        double load = os.getSystemLoadAverage(); // 지원하지 않는 OS 는 음수
+        if (load < 0) return false;
+        return load / os.getAvailableProcessors() > maxLoadPerCore;
+    }
+}
@@ -0,0 +1,169 @@
+package com.stg.sikboo.ingredient.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
+import com.stg.sikboo.ingredient.dto.response.ArchivedIngredientResponseDTO;
+import com.stg.sikboo.ingredient.dto.response.SliceResponseDTO;
+import com.stg.sikboo.ingredient.infra.IngredientArchiveRepository;
+import com.stg.sikboo.ingredient.infra.PantrySnapshotCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소비기한이 오래 지난 재료 보관(archive) / 복원
+ *
+ * - 보관: retentionDays 이상 지난 재료를 batchSize 건씩 옮기고 배치 사이 pauseMs 만큼 쉼(1회 최대 maxBatches)
+ * - 배치마다 짧은 트랜잭션 1개(이동 문장 + 회원별 ARCHIVED 이벤트) + SKIP LOCKED 라 사용 중인 행을 오래 잠그지 않음
+ * - 누적/직전 실행 이동 건수를 카운터로 보관하고 로그로 남김
+ */
+@Slf4j
+@Service
+public class IngredientArchiveService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int MAX_LIST_SIZE = 100;
+
+    private final IngredientArchiveRepository archiveRepo;
+    private final PantrySnapshotCache pantryCache;
+    private final DomainEventPublisher events;
+    private final TransactionTemplate tx;
+
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatches;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalMoved = new AtomicLong();
+    private final AtomicLong lastRunMoved = new AtomicLong();
+    private final AtomicLong totalRestored = new AtomicLong();
+
+    public IngredientArchiveService(
+            IngredientArchiveRepository archiveRepo,
+            PantrySnapshotCache pantryCache,
+            DomainEventPublisher events,
+            TransactionTemplate tx,
+            @Value("${app.ingredient-archive.retention-days:30}") int retentionDays,
+            @Value("${app.ingredient-archive.batch-size:500}") int batchSize,
+            @Value("${app.ingredient-archive.pause-ms:200}") long pauseMillis,
+            @Value("${app.ingredient-archive.max-batches:200}") int maxBatches
+    ) {
+        this.archiveRepo = archiveRepo;
+        this.pantryCache = pantryCache;
+        this.events = events;
+        this.tx = tx;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatches = maxBatches;
+    }
+
+    /** 1회 실행. 이번에 옮긴 행 수 반환 */
+    public long archiveExpired() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[재료 보관] 이전 실행이 아직 진행 중이라 건너뜀");
+            return 0;
+        }
+        try {
+            LocalDate cutoff = LocalDate.now(KST).minusDays(retentionDays);
+            long moved = 0;
+            Map<Long, Integer> touchedMembers = new HashMap<>();
+
+            for (int batch = 0; batch < maxBatches; batch++) {
+                // 이동과 이벤트(아웃박스 행)를 한 트랜잭션으로. 배치 안에서 회원별 1건씩 (옮긴 건수만 담음)
+                List<Long> memberIds = tx.execute(status -> {
+                    List<Long> ids = archiveRepo.moveExpiredBatch(cutoff, batchSize);
+                    Map<Long, Integer> counts = new HashMap<>();
+                    ids.forEach(m -> counts.merge(m, 1, Integer::sum));
+                    counts.forEach((memberId, count) -> {
+                        pantryCache.invalidate(memberId);
+                        events.publish(AggregateType.INGREDIENT, null, EventType.ARCHIVED, memberId,
+                                Map.of("count", count, "cutoff", cutoff.toString()));
+                    });
+                    return ids;
+                });
+                moved += memberIds.size();
+                memberIds.forEach(m -> touchedMembers.merge(m, 1, Integer::sum));
+
+                if (memberIds.size() < batchSize) break;
+                if (!pause()) break;
+            }
+            lastRunMoved.set(moved);
+            long total = totalMoved.addAndGet(moved);
+            log.info("[재료 보관] 완료: 기준일 {} 이전, 이번 {}건 / 누적 {}건, 회원 {}명",
+                    cutoff, moved, total, touchedMembers.size());
+            return moved;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /** 보관 목록(최근 보관 id 순) */
+    public SliceResponseDTO<ArchivedIngredientResponseDTO> list(Long memberId, Long cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+        long beforeId = (cursor == null) ? Long.MAX_VALUE : cursor;
+
+        List<ArchivedIngredientResponseDTO> rows = archiveRepo.findByMember(memberId, beforeId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ArchivedIngredientResponseDTO> content = hasNext ? rows.subList(0, limit) : rows;
+        String next = hasNext ? String.valueOf(content.get(content.size() - 1).id()) : null;
+        return new SliceResponseDTO<>(content, limit, hasNext, next, null);
+    }
+
+    /** 보관된 재료를 원래 id 그대로 되돌림 */
+    public void restore(Long memberId, Long id) {
+        try {
+            // 복원과 이벤트(아웃박스 행)를 한 트랜잭션으로
+            tx.executeWithoutResult(status -> {
+                if (archiveRepo.restore(memberId, id) == 0) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "보관된 재료를 찾을 수 없습니다.");
+                }
+                pantryCache.invalidate(memberId);
+                events.publish(AggregateType.INGREDIENT, id, EventType.RESTORED, memberId, null);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 위치/날짜에 같은 이름의 재료가 이미 있습니다.");
+        }
+        totalRestored.incrementAndGet();
+        log.info("[재료 보관] 복원: memberId={}, ingredientId={}", memberId, id);
+    }
+
+    public long totalMovedCount() {
+        return totalMoved.get();
+    }
+
+    public long lastRunMovedCount() {
+        return lastRunMoved.get();
+    }
+
+    public long totalRestoredCount() {
+        return totalRestored.get();
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) return true;
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
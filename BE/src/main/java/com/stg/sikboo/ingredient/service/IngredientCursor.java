@@ -0,0 +1,37 @@
+package com.stg.sikboo.ingredient.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.stg.sikboo.ingredient.domain.Ingredient;
+
+/**
+ * 재료 목록 키셋 커서: 마지막으로 내려준 행의 (due, ingredient_name, ingredient_id)
+ *
+ * 클라이언트에는 불투명 문자열(Base64 URL-safe)로만 노출한다.
+ * 형식: "{due}\n{id}\n{name}" (이름에 어떤 문자가 와도 마지막 필드라 안전)
+ */
+public record IngredientCursor(LocalDateTime due, String name, Long id) {
+
+    public static IngredientCursor of(Ingredient i) {
+        return new IngredientCursor(i.getDue(), i.getIngredientName(), i.getId());
+    }
+
+    public String encode() {
+        String raw = due + "\n" + id + "\n" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 잘못된 커서면 IllegalArgumentException */
+    public static IngredientCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\n", 3);
+            if (parts.length != 3) throw new IllegalArgumentException("cursor 형식 오류");
+            return new IngredientCursor(LocalDateTime.parse(parts[0]), parts[2], Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("cursor 형식이 올바르지 않습니다.", e);
+        }
+    }
+}
@@ -5,35 +5,53 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
 import com.stg.sikboo.ingredient.domain.Ingredient;
 import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.IngredientNameNormalizer;
 import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.ingredient.domain.PantryItem;
 import com.stg.sikboo.ingredient.dto.request.CreateIngredientRequestDTO;
 import com.stg.sikboo.ingredient.dto.request.UpdateIngredientRequestDTO;
 import com.stg.sikboo.ingredient.dto.response.AnalyzeTextResponse;
 import com.stg.sikboo.ingredient.dto.response.IngredientItem;
 import com.stg.sikboo.ingredient.dto.response.IngredientResponseDTO;
 import com.stg.sikboo.ingredient.dto.response.PageResponseDTO;
+import com.stg.sikboo.ingredient.dto.response.SliceResponseDTO;
+import com.stg.sikboo.ingredient.infra.AnalyzeTextCache;
+import com.stg.sikboo.ingredient.infra.IngredientBulkWriter;
+import com.stg.sikboo.ingredient.infra.JsonObjectStreamSplitter;
+import com.stg.sikboo.ingredient.infra.PantrySnapshotCache;
+import com.stg.sikboo.ingredient.infra.RuleBasedIngredientExtractor;
+import com.stg.sikboo.ingredient.infra.ShelfLifeKnowledgeBase;
 import com.stg.sikboo.onboarding.infra.TextSanitizer;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
@@ -42,16 +60,24 @@ import lombok.extern.slf4j.Slf4j;
 public class IngredientService {
 
     private final IngredientRepository repo;
+    private final IngredientBulkWriter bulkWriter;
+    private final AnalyzeTextCache analyzeCache;
+    private final RuleBasedIngredientExtractor ruleExtractor;
+    private final ShelfLifeKnowledgeBase shelfLife;
+    private final PantrySnapshotCache pantryCache;
+    private final PantryDedupFilter dedupFilter;
+    private final DomainEventPublisher events;
     private final OpenAiChatModel chatModel;
     private final ObjectMapper objectMapper;
 
     // 한국 시간대. due(유통기한)를 "KST 00:00" 기준 LocalDateTime으로 저장/비교
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-    // 위치별 기본 보관일
-    private static final int DAYS_FRIDGE = 7;   // 냉장고
-    private static final int DAYS_FREEZER = 90; // 냉동실
-    private static final int DAYS_ROOM    = 3;  // 실온
+    // 생성 시 중복 프로브의 "자기 자신 제외" 자리에 넘기는 값(존재할 수 없는 id)
+    private static final Long NO_ID = -1L;
+
+    // 무한 스크롤 한 번에 내려줄 최대 건수
+    private static final int MAX_SCROLL_SIZE = 100;
 
     // ========== 기존 CRUD 메서드 ==========
 
@@ -60,28 +86,71 @@ public class IngredientService {
             Long memberId, IngredientLocation location, String q,
             int page, int size, String sort, String order
     ) {
-        Sort s = sort(sort, order);
+        PageRequest pageable = PageRequest.of(page, size);
+
+        // 회원 스냅샷이 캐시에 있으면 DB 없이 메모리에서 필터/정렬/페이징
+        var snapshot = pantryCache.getOrLoad(memberId,
+                (id, limit) -> repo.findPantryItemsByMemberId(id, PageRequest.of(0, limit)));
+        if (snapshot.isPresent()) {
+            return pageOf(snapshot.get(), location, q, pageable, sort, order);
+        }
 
         String loc = (location == null) ? null : location.name();
 
-        Page<Ingredient> result = repo.search(
-                memberId,
-                loc,
-                emptyToNull(q),
-                PageRequest.of(page, size)
-        );
+        String keyword = likeKeyword(q);
+        boolean desc = isDesc(order);
+        Page<Ingredient> result = isNameSort(sort)
+                ? (desc ? repo.searchByNameDesc(memberId, loc, keyword, pageable)
+                        : repo.searchByNameAsc(memberId, loc, keyword, pageable))
+                : (desc ? repo.searchByDueDesc(memberId, loc, keyword, pageable)
+                        : repo.searchByDueAsc(memberId, loc, keyword, pageable));
 
         Page<IngredientResponseDTO> mapped = result.map(i -> IngredientResponseDTO.from(i, KST));
         return PageResponseDTO.from(mapped);
     }
 
+    // 무한 스크롤 조회(키셋): (due, 이름, id) 커서 기반, count 없이 size+1 건으로 hasNext 판단
+    // - withTotal=true 일 때만 전체 건수 쿼리 실행
+    public SliceResponseDTO<IngredientResponseDTO> scroll(
+            Long memberId, IngredientLocation location, String q,
+            String cursor, int size, boolean withTotal
+    ) {
+        int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        String loc = (location == null) ? null : location.name();
+        String keyword = likeKeyword(q);
+
+        List<Ingredient> rows;
+        if (isBlank(cursor)) {
+            rows = repo.scrollFirst(memberId, loc, keyword, limit + 1);
+        } else {
+            IngredientCursor c;
+            try {
+                c = IngredientCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw badRequest(e.getMessage());
+            }
+            rows = repo.scrollAfter(memberId, loc, keyword, c.due(), c.name(), c.id(), limit + 1);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+
+        String nextCursor = hasNext ? IngredientCursor.of(rows.get(rows.size() - 1)).encode() : null;
+        Long total = withTotal ? repo.countSearch(memberId, loc, keyword) : null;
+
+        List<IngredientResponseDTO> content = rows.stream()
+                .map(i -> IngredientResponseDTO.from(i, KST))
+                .toList();
+        return new SliceResponseDTO<>(content, content.size(), hasNext, nextCursor, total);
+    }
+
     // 단건 조회
     public IngredientResponseDTO get(Long memberId, Long id) {
         Ingredient i = repo.findByIdAndMemberId(id, memberId).orElseThrow(NotFound::new);
         return IngredientResponseDTO.from(i, KST);
     }
 
-    // 생성: due 미입력 시 위치별 자동보정(+7/+90/+3, KST 자정)
+    // 생성: due 미입력 시 보관 기간표(이름/분류 × 위치)로 자동 추정(KST 자정)
     public Long create(Long memberId, CreateIngredientRequestDTO req) {
         if (req == null) throw badRequest("요청 본문이 비어있습니다.");
         if (isBlank(req.ingredientName())) throw badRequest("ingredientName 은 필수입니다.");
@@ -90,30 +159,32 @@ public class IngredientService {
         final boolean hasDueInput = !isBlank(req.due());
         final LocalDateTime dueLdt = hasDueInput
                 ? parseToKstMidnight(req.due())
-                : estimateByLocation(req.location());
+                : estimateDue(req.ingredientName(), req.location());
 
-        // --- 중복 검사 (최종 due 기준) ---
+        // --- 중복 검사 (최종 due 기준, 인덱스 단건 프로브) ---
         LocalDate theDate = dueLdt.toLocalDate();
-        LocalDateTime start = theDate.atStartOfDay(KST).toLocalDateTime();
-        LocalDateTime end   = start.plusDays(1);
-        var candidates = repo.findDupCandidates(
-                memberId,
-                req.location().name(),
-                start, end
-        );
-        String newNorm = norm(req.ingredientName());
-        boolean dup = candidates.stream().anyMatch(c -> norm(c.getIngredientName()).equals(newNorm));
-        if (dup) throw new Duplicate(req.ingredientName(), req.location().name(), theDate.toString());
-
-        Ingredient saved = repo.save(Ingredient.builder()
-                .memberId(memberId)
-                .ingredientName(req.ingredientName())
-                .location(req.location())
-                .due(dueLdt)
-                .isDueEstimated(!hasDueInput)   // 입력 없으면 true, 있으면 false
-                .memo(req.memo())
-                .build());
+        if (repo.existsDuplicate(memberId, req.location().name(), theDate,
+                IngredientNameNormalizer.normalize(req.ingredientName()), NO_ID)) {
+            throw new Duplicate(req.ingredientName(), req.location().name(), theDate.toString());
+        }
 
+        Ingredient saved;
+        try {
+            saved = repo.save(Ingredient.builder()
+                    .memberId(memberId)
+                    .ingredientName(req.ingredientName())
+                    .location(req.location())
+                    .due(dueLdt)
+                    .isDueEstimated(!hasDueInput)   // 입력 없으면 true, 있으면 false
+                    .memo(req.memo())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시 생성으로 프로브를 둘 다 통과한 경우 → 유니크 인덱스가 최종 판정
+            throw new Duplicate(req.ingredientName(), req.location().name(), theDate.toString());
+        }
+
+        pantryCache.invalidate(memberId);
+        publish(saved, EventType.CREATED);
         return saved.getId();
     }
 
@@ -124,39 +195,43 @@ public class IngredientService {
         String newName = (req != null && !isBlank(req.ingredientName())) ? req.ingredientName() : i.getIngredientName();
         IngredientLocation newLoc = (req != null && req.location() != null) ? req.location() : i.getLocation();
 
+        LocalDateTime newDue = i.getDue();
+        boolean newEstimated = i.isDueEstimated();
         // 1) 사용자가 due를 보냈으면 → 그 값 적용 + 추정 아님(false)
         if (req != null && !isBlank(req.due())) {
-            LocalDateTime newDueLdt = parseToKstMidnight(req.due());
-            i.setDue(newDueLdt);
-            i.setDueEstimated(false);
+            newDue = parseToKstMidnight(req.due());
+            newEstimated = false;
         }
         // 2) due 미전송 + location만 바뀜 → 기존이 추정값(true)이면 재추정
         else if (!newLoc.equals(i.getLocation()) && i.isDueEstimated()) {
-            LocalDateTime reEstimated = estimateByLocation(newLoc);
-            i.setDue(reEstimated);
-            i.setDueEstimated(true);
+            newDue = estimateDue(newName, newLoc);
+            newEstimated = true;
         }
         // (그 외) 날짜/플래그 유지
 
+        // --- 자신 제외 중복 검사 (최종 값 기준) ---
+        // 엔티티 변경 전에 검사해야 native 쿼리 전 자동 flush 로 유니크 위반이 먼저 터지지 않음
+        LocalDate newDueDate = newDue.toLocalDate();
+        if (repo.existsDuplicate(memberId, newLoc.name(), newDueDate,
+                IngredientNameNormalizer.normalize(newName), id)) {
+            throw new Duplicate(newName, newLoc.name(), newDueDate.toString());
+        }
+
         // 필수 변경 반영
         i.setIngredientName(newName);
         i.setLocation(newLoc);
+        i.setDue(newDue);
+        i.setDueEstimated(newEstimated);
         if (req != null && req.memo() != null) i.setMemo(req.memo());
 
-        // --- 자신 제외 중복 검사 (최종 값 기준) ---
-        LocalDate newDueDate = i.getDue().toLocalDate();
-        LocalDateTime start = newDueDate.atStartOfDay(KST).toLocalDateTime();
-        LocalDateTime end   = start.plusDays(1);
-        var candidates = repo.findDupCandidates(
-                memberId,
-                newLoc.name(),
-                start, end
-        );
-        String newNorm = norm(newName);
-        boolean dup = candidates.stream()
-                .anyMatch(c -> !c.getId().equals(id) && norm(c.getIngredientName()).equals(newNorm));
-        if (dup) throw new Duplicate(newName, newLoc.name(), newDueDate.toString());
+        try {
+            repo.saveAndFlush(i);
+        } catch (DataIntegrityViolationException e) {
+            throw new Duplicate(newName, newLoc.name(), newDueDate.toString());
+        }
 
+        pantryCache.invalidate(memberId);
+        publish(i, EventType.UPDATED);
         return IngredientResponseDTO.from(i, KST);
     }
 
@@ -169,6 +244,8 @@ public class IngredientService {
         });
         log.debug("삭제 대상: {}", i.getIngredientName());
         repo.delete(i);
+        pantryCache.invalidate(memberId);
+        publish(i, EventType.DELETED);
         log.info("삭제 완료: ingredientId={}", id);
     }
 
@@ -180,6 +257,22 @@ public class IngredientService {
             throw badRequest("분석할 내용이 비어있습니다.");
         }
 
+        // 같은 문장(정제 기준) 재요청은 캐시에서 바로 응답 → 모델 호출/토큰 소모 없음
+        String cacheKey = TextSanitizer.sanitize(text);
+        var cached = analyzeCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI 분석 캐시 적중: memberId={}, {}개 항목", memberId, cached.get().size());
+            return new AnalyzeTextResponse(cached.get());
+        }
+
+        // "우유, 계란 샀어" 같은 단순 입력은 사전/규칙으로 바로 처리, 애매할 때만 모델 호출
+        var ruled = ruleExtractor.extract(text);
+        if (ruled.isPresent()) {
+            log.info("규칙 기반 분석 완료: memberId={}, {}개 항목", memberId, ruled.get().size());
+            analyzeCache.put(cacheKey, ruled.get());
+            return new AnalyzeTextResponse(ruled.get());
+        }
+
         String prompt = buildAnalysisPrompt(text);
 
         log.info("AI 분석 시작: memberId={}", memberId);
@@ -209,7 +302,11 @@ public class IngredientService {
                     item.getName(), item.getStorage(), item.getExpiryDays());
             }
 
+            // 기한을 말하지 않은 항목(-1)은 보관 기간표로 채움
+            fillMissingExpiry(items);
+
             log.info("AI 분석 완료: {}개 항목", items.size());
+            if (!items.isEmpty()) analyzeCache.put(cacheKey, items);
             return new AnalyzeTextResponse(items);
 
         } catch (Exception e) {
@@ -218,6 +315,64 @@ public class IngredientService {
         }
     }
 
+    /**
+     * AI 자연어 분석 (스트리밍)
+     * - 캐시/규칙으로 처리되면 즉시 전체 항목을 흘려보냄
+     * - 그 외에는 모델 스트림을 받아 JSON 배열 안의 객체가 닫힐 때마다 항목 1개씩 방출
+     * - DB 를 쓰지 않으므로 트랜잭션 없이 실행(구독은 호출 측 스레드/모델 스트림 스레드에서 진행)
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Flux<IngredientItem> analyzeTextStream(Long memberId, String text) {
+        if (isBlank(text)) {
+            throw badRequest("분석할 내용이 비어있습니다.");
+        }
+
+        String cacheKey = TextSanitizer.sanitize(text);
+        var cached = analyzeCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI 분석 캐시 적중(스트림): memberId={}, {}개 항목", memberId, cached.get().size());
+            return Flux.fromIterable(cached.get());
+        }
+
+        var ruled = ruleExtractor.extract(text);
+        if (ruled.isPresent()) {
+            log.info("규칙 기반 분석 완료(스트림): memberId={}, {}개 항목", memberId, ruled.get().size());
+            analyzeCache.put(cacheKey, ruled.get());
+            return Flux.fromIterable(ruled.get());
+        }
+
+        log.info("AI 스트리밍 분석 시작: memberId={}", memberId);
+        Prompt aiPrompt = new Prompt(new UserMessage(buildAnalysisPrompt(text)));
+
+        JsonObjectStreamSplitter splitter = new JsonObjectStreamSplitter();
+        List<IngredientItem> collected = new ArrayList<>();
+        AtomicBoolean parseFailed = new AtomicBoolean(false);
+
+        return chatModel.stream(aiPrompt)
+                .map(IngredientService::chunkText)
+                .concatMapIterable(splitter::feed)
+                .<IngredientItem>handle((json, sink) -> {
+                    try {
+                        IngredientItem item = objectMapper.readValue(json, IngredientItem.class);
+                        fillMissingExpiry(List.of(item));
+                        sink.next(item);
+                    } catch (JsonProcessingException e) {
+                        parseFailed.set(true);
+                        log.warn("AI 스트림 항목 파싱 실패, 건너뜀: {}", json);
+                    }
+                })
+                .doOnNext(collected::add)
+                .doOnComplete(() -> {
+                    log.info("AI 스트리밍 분석 완료: {}개 항목", collected.size());
+                    // 빈 응답 / 파싱 실패 / 객체 중간에서 끊긴 응답은 TTL 동안 굳지 않도록 캐시하지 않음
+                    if (collected.isEmpty() || parseFailed.get() || splitter.hasPartial()) {
+                        log.info("AI 스트리밍 결과 불완전 → 캐시 안 함");
+                        return;
+                    }
+                    analyzeCache.put(cacheKey, collected);
+                });
+    }
+
     /** AI 응답에서 순수 JSON만 추출 */
     private String cleanJsonResponse(String response) {
         if (response == null) return "";
@@ -256,8 +411,9 @@ public class IngredientService {
         }
 
         LocalDate today = LocalDate.now(KST);
-        List<Ingredient> batch = new ArrayList<>();
+        List<Ingredient> pending = new ArrayList<>();
 
+        // 1) 정제 + 위치/기한 계산 (DB 접근 없음)
         for (IngredientItem item : items) {
             String cleanName = TextSanitizer.sanitize(item.getName());
             String cleanStorage = TextSanitizer.sanitize(item.getStorage());
@@ -272,50 +428,44 @@ public class IngredientService {
 
             IngredientLocation location = parseLocation(cleanStorage);
             
-            // ✅ AI가 분석한 expiryDays를 그대로 사용
-            LocalDateTime dueDateTime = today.plusDays(item.getExpiryDays())
+            // ✅ 기한이 지정된 항목은 그대로, 빠진 항목(음수)은 보관 기간표로 추정
+            boolean estimated = item.getExpiryDays() < 0;
+            int expiryDays = estimated
+                ? shelfLife.estimateDays(cleanName, location)
+                : item.getExpiryDays();
+            LocalDateTime dueDateTime = today.plusDays(expiryDays)
                 .atStartOfDay(KST)
                 .toLocalDateTime();
 
             log.info("계산된 소비기한 - today: {}, +{}일 = {}", 
-                today, item.getExpiryDays(), dueDateTime);
-
-            // 중복 검사
-            LocalDateTime start = dueDateTime.toLocalDate().atStartOfDay(KST).toLocalDateTime();
-            LocalDateTime end = start.plusDays(1);
-            var candidates = repo.findDupCandidates(memberId, location.name(), start, end);
-
-            String newNorm = norm(cleanName);
-            boolean dup = candidates.stream()
-                .anyMatch(c -> norm(c.getIngredientName()).equals(newNorm));
-
-            if (dup) {
-                log.warn("중복 식재료 건너뜀: {}", cleanName);
-                continue;
-            }
+                today, expiryDays, dueDateTime);
 
-            Ingredient ingredient = Ingredient.builder()
+            pending.add(Ingredient.builder()
                 .memberId(memberId)
                 .ingredientName(cleanName)
                 .location(location)
-                .due(dueDateTime)  // ✅ AI가 계산한 날짜
-                .isDueEstimated(false)  // ✅ AI가 분석했으므로 false
-                .build();
-
-            batch.add(ingredient);
+                .due(dueDateTime)
+                .isDueEstimated(estimated)
+                .build());
         }
 
+        // 2) 중복 제거: 기한 구간 전체 후보를 한 번에 조회 → (위치, 날짜, 정규화 이름) 해시셋
+        //    같은 요청 안의 항목끼리도 같은 셋으로 걸러진다
+        List<Ingredient> batch = dedupFilter.filterNew(memberId, pending);
+
+        int inserted = 0;
         if (!batch.isEmpty()) {
-            repo.saveAll(batch);
-            log.info("AI 재료 저장 완료: memberId={}, count={}", memberId, batch.size());
-            
-            // ✅ 저장된 데이터 확인 로그
-            batch.forEach(ing -> 
-                log.info("저장됨 - name: {}, location: {}, due: {}, estimated: {}", 
-                    ing.getIngredientName(), ing.getLocation(), 
-                    ing.getDue(), ing.isDueEstimated())
-            );
+            // 유니크 인덱스 충돌(동시 요청) 행은 writer 에서 건너뜀
+            inserted = bulkWriter.insertAll(batch);
+            if (inserted > 0) {
+                pantryCache.invalidate(memberId);
+                events.publish(AggregateType.INGREDIENT, null, EventType.BULK_CREATED, memberId,
+                        Map.of("source", "ai", "count", inserted));
+            }
         }
+        // ✅ 저장 결과는 INSERT 후 한 번만: 요청 수 / 중복 제거 후 / 실제 저장 수(동시 요청 충돌 제외)
+        log.info("AI 재료 저장 완료: memberId={}, 요청 {}, 중복 제거 후 {}, 저장 {}",
+                memberId, pending.size(), batch.size(), inserted);
     }
 
 //    /** (미사용) 식재료명/보관장소 정제 */
@@ -351,26 +501,23 @@ public class IngredientService {
               {
                 "name": "식재료명",
                 "storage": "냉장고",
-                "expiryDays": 7
+                "expiryDays": -1
               }
             ]
 
             [규칙]
             1. 식재료명은 간단하게 (예: "배추김치" → "김치")
             2. storage는 반드시 "냉장고", "냉동실", "실온" 중 하나
-            3. expiryDays 기본값:
-               - 냉장고: 7일
-               - 냉동실: 90일
-               - 실온: 3일
-            4. 사용자가 명시한 기한이 있으면 그것을 우선 사용
-            5. "소비기한 3일 남았다" = expiryDays: 3
-            6. "오늘 샀다" = 기본값 사용
+            3. expiryDays는 사용자가 기한을 말한 경우에만 그 값을 사용
+            4. 기한을 말하지 않았으면 expiryDays는 -1 (보관 기간은 서버에서 계산합니다)
+            5. "소비기한 3일 남았다" = expiryDays: 3, "오늘까지" = expiryDays: 0
+            6. "오늘 샀다" = expiryDays: -1
             7. 보관 장소가 명시되지 않으면 일반적인 상식으로 추론 (예: 우유→냉장고, 라면→실온, 만두→냉동실)
             8. name과 storage에는 따옴표(“ ” ‘ ’ " ' ` 등)나 불필요 기호를 포함하지 마세요.
 
             [올바른 출력 예시]
             [
-              { "name": "김치", "storage": "냉장고", "expiryDays": 7 },
+              { "name": "김치", "storage": "냉장고", "expiryDays": -1 },
               { "name": "우유",  "storage": "냉장고", "expiryDays": 3 }
             ]
 
@@ -410,19 +557,69 @@ public class IngredientService {
         return (s == null || s.isBlank()) ? null : s;
     }
 
-    private static Sort sort(String sort, String order) {
-        Sort.Direction dir = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
-        if ("name".equalsIgnoreCase(sort) || "ingredientName".equalsIgnoreCase(sort)) {
-            return Sort.by(new Sort.Order(dir, "ingredientName"), Sort.Order.asc("due"));
+    // 스냅샷 기반 목록: searchBy* 쿼리와 같은 조건/정렬(comparator())을 메모리에서 적용
+    private static PageResponseDTO<IngredientResponseDTO> pageOf(
+            List<PantryItem> items, IngredientLocation location, String q,
+            PageRequest pageable, String sort, String order
+    ) {
+        String keyword = IngredientNameNormalizer.normalize(emptyToNull(q));
+        List<PantryItem> filtered = items.stream()
+                .filter(i -> location == null || i.location() == location)
+                .filter(i -> keyword.isEmpty() || i.normalizedName().contains(keyword))
+                .sorted(comparator(sort, order))
+                .toList();
+
+        int total = filtered.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        List<IngredientResponseDTO> content = filtered.subList(from, to).stream()
+                .map(i -> IngredientResponseDTO.from(i, KST))
+                .toList();
+        int totalPages = (total + pageable.getPageSize() - 1) / pageable.getPageSize();
+        return new PageResponseDTO<>(content, pageable.getPageNumber(), pageable.getPageSize(), total, totalPages);
+    }
+
+    private static Comparator<PantryItem> comparator(String sort, String order) {
+        // searchBy* 쿼리의 COLLATE "C" 와 같은 코드포인트 순 (String.compareTo 는 UTF-16 단위라 보충 문자에서 다름)
+        Comparator<PantryItem> byName = Comparator.comparing(PantryItem::name, IngredientService::compareCodePoints);
+        Comparator<PantryItem> byDue = Comparator.comparing(PantryItem::due);
+        Comparator<PantryItem> byId = Comparator.comparing(PantryItem::id);
+        Comparator<PantryItem> c = isNameSort(sort)
+                ? byName.thenComparing(byDue).thenComparing(byId)
+                : byDue.thenComparing(byName).thenComparing(byId);
+        // 내림차순은 동점 키까지 전부 뒤집음 (쿼리의 ORDER BY ... DESC, ... DESC, ... DESC 와 같음)
+        return isDesc(order) ? c.reversed() : c;
+    }
+
+    // 목록 정렬 기준: name/ingredientName 이면 이름순, 그 외는 기한순
+    private static boolean isNameSort(String sort) {
+        return "name".equalsIgnoreCase(sort) || "ingredientName".equalsIgnoreCase(sort);
+    }
+
+    private static boolean isDesc(String order) {
+        return "desc".equalsIgnoreCase(order);
+    }
+
+    private static int compareCodePoints(String a, String b) {
+        int i = 0, j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) return Integer.compare(ca, cb);
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
         }
-        return Sort.by(Sort.Order.asc("due"), Sort.Order.asc("ingredientName"));
+        return Boolean.compare(i < a.length(), j < b.length());
     }
 
-    private static String norm(String s) {
-        if (s == null) return "";
-        String t = java.text.Normalizer.normalize(s, java.text.Normalizer.Form.NFKC);
-        t = t.toLowerCase(java.util.Locale.ROOT);
-        return t.replaceAll("\\s+", "");
+    // 검색어 → LIKE 패턴용(normalized_name 과 같은 정규화 + 와일드카드 이스케이프). 비어있으면 null(검색 미적용)
+    private static String likeKeyword(String q) {
+        String t = IngredientNameNormalizer.normalize(emptyToNull(q));
+        if (t.isEmpty()) return null;
+        return t
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 
     // "YYYY-MM-DD" → KST 자정(LocalDateTime)
@@ -435,17 +632,39 @@ public class IngredientService {
         }
     }
 
-    // 위치별 규칙으로 오늘 기준 자동 추정 → KST 자정
-    private static LocalDateTime estimateByLocation(IngredientLocation loc) {
-        int plusDays = switch (loc) {
-            case 냉장고 -> DAYS_FRIDGE;
-            case 냉동실 -> DAYS_FREEZER;
-            case 실온   -> DAYS_ROOM;
-        };
-        LocalDate target = LocalDate.now(KST).plusDays(plusDays);
+    // 보관 기간표로 오늘 기준 자동 추정 → KST 자정
+    private LocalDateTime estimateDue(String name, IngredientLocation loc) {
+        LocalDate target = LocalDate.now(KST).plusDays(shelfLife.estimateDays(name, loc));
         return target.atStartOfDay(KST).toLocalDateTime();
     }
 
+    // 단건 변경 이벤트 (같은 트랜잭션에 아웃박스 저장)
+    private void publish(Ingredient i, EventType type) {
+        events.publish(AggregateType.INGREDIENT, i.getId(), type, i.getMemberId(), Map.of(
+                "name", i.getIngredientName(),
+                "location", i.getLocation().name(),
+                "due", i.getDue().toLocalDate().toString()));
+    }
+
+    // 스트림 응답 조각의 텍스트(메타데이터만 있는 조각은 빈 문자열)
+    private static String chunkText(ChatResponse r) {
+        if (r == null || r.getResult() == null || r.getResult().getOutput() == null) return "";
+        String content = r.getResult().getOutput().getContent();
+        return content == null ? "" : content;
+    }
+
+    // AI 분석 결과 중 기한 미지정(음수) 항목을 보관 기간표 값으로 채움
+    private void fillMissingExpiry(List<IngredientItem> items) {
+        for (IngredientItem item : items) {
+            if (item.getExpiryDays() >= 0) continue;
+            try {
+                item.setExpiryDays(shelfLife.estimateDays(item.getName(), parseLocation(item.getStorage())));
+            } catch (ResponseStatusException e) {
+                // 보관장소가 이상하면 그대로 둠(저장 시 다시 검증)
+            }
+        }
+    }
+
     // ========== Exception Classes ==========
 
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -0,0 +1,312 @@
+package com.stg.sikboo.ingredient.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
+import com.stg.sikboo.ingredient.domain.Ingredient;
+import com.stg.sikboo.ingredient.domain.IngredientExportRow;
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.ingredient.dto.response.IngredientImportResponse;
+import com.stg.sikboo.ingredient.dto.response.IngredientTransferRow;
+import com.stg.sikboo.ingredient.infra.IngredientBulkWriter;
+import com.stg.sikboo.ingredient.infra.PantrySnapshotCache;
+import com.stg.sikboo.ingredient.infra.ShelfLifeKnowledgeBase;
+import com.stg.sikboo.onboarding.infra.TextSanitizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재료 대량 가져오기/내보내기 (NDJSON / CSV)
+ *
+ * - 내보내기: id 키셋으로 CHUNK_SIZE 건씩 읽어 바로 출력 스트림에 씀 → 전체 목록을 메모리에 올리지 않음
+ * - 가져오기: 요청 본문을 한 줄씩 읽어 CHUNK_SIZE 건마다 bulk INSERT (중복은 유니크 인덱스 + ON CONFLICT DO NOTHING)
+ * - 청크마다 한 트랜잭션: INSERT + 캐시 무효화 + BULK_CREATED 이벤트를 함께 커밋(긴 트랜잭션 없음)
+ *   → 중간에 실패해도 앞선 청크는 저장 + 이벤트까지 끝난 상태
+ * - CSV 내보내기는 수식으로 시작하는 값(=, +, -, @ 등) 앞에 ' 를 붙여 스프레드시트 수식 실행을 막음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientTransferService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER = "ingredientName,location,due,isDueEstimated,memo";
+
+    private final IngredientRepository repo;
+    private final IngredientBulkWriter bulkWriter;
+    private final PantrySnapshotCache pantryCache;
+    private final ShelfLifeKnowledgeBase shelfLife;
+    private final ObjectMapper objectMapper;
+    private final DomainEventPublisher events;
+    private final TransactionTemplate tx;
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank() || "ndjson".equalsIgnoreCase(value)) return NDJSON;
+            if ("csv".equalsIgnoreCase(value)) return CSV;
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 형식입니다: " + value);
+        }
+    }
+
+    // ========== 내보내기 ==========
+
+    public void export(Long memberId, Format format, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            w.write(CSV_HEADER);
+            w.write('\n');
+        }
+
+        long afterId = 0;
+        int written = 0;
+        while (true) {
+            List<IngredientExportRow> rows = repo.findExportChunk(memberId, afterId, CHUNK_SIZE);
+            for (IngredientExportRow r : rows) {
+                IngredientTransferRow row = new IngredientTransferRow(
+                        r.getName(), r.getLocation(), r.getDue(), r.getDueEstimated(), r.getMemo());
+                if (format == Format.CSV) writeCsv(w, row);
+                else w.write(objectMapper.writeValueAsString(row));
+                w.write('\n');
+            }
+            written += rows.size();
+            w.flush(); // 청크마다 클라이언트로 밀어냄
+
+            if (rows.size() < CHUNK_SIZE) break;
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+        log.info("재료 내보내기 완료: memberId={}, format={}, {}건", memberId, format, written);
+    }
+
+    // ========== 가져오기 ==========
+
+    public IngredientImportResponse importFrom(Long memberId, Format format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        LocalDate today = LocalDate.now(KST);
+
+        List<Ingredient> chunk = new ArrayList<>(CHUNK_SIZE);
+        int total = 0, inserted = 0, duplicates = 0, invalid = 0;
+        boolean first = true;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (first) {
+                first = false;
+                if (!line.isEmpty() && line.charAt(0) == '\uFEFF') line = line.substring(1); // BOM
+                if (format == Format.CSV && line.trim().startsWith("ingredientName")) continue; // 헤더
+            }
+            if (line.isBlank()) continue;
+            total++;
+
+            Ingredient ing = toIngredient(memberId, parse(format, line), today);
+            if (ing == null) {
+                invalid++;
+                continue;
+            }
+            chunk.add(ing);
+
+            if (chunk.size() == CHUNK_SIZE) {
+                int saved = flush(memberId, chunk);
+                inserted += saved;
+                duplicates += chunk.size() - saved;
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int saved = flush(memberId, chunk);
+            inserted += saved;
+            duplicates += chunk.size() - saved;
+        }
+        log.info("재료 가져오기 완료: memberId={}, format={}, 전체 {}, 저장 {}, 중복 {}, 오류 {}",
+                memberId, format, total, inserted, duplicates, invalid);
+        return new IngredientImportResponse(total, inserted, duplicates, invalid);
+    }
+
+    // 청크 bulk INSERT. 중복(기존 보유분 + 앞선 청크 + 청크 내)은 유니크 인덱스
+    // uq_ing_member_loc_day_norm + ON CONFLICT DO NOTHING 으로 건너뛰고, 반환값은 실제 저장 수
+    // (중복 후보를 미리 읽지 않으므로 메모리는 보관함 크기와 무관하게 청크 크기로 고정)
+    // INSERT / 캐시 무효화 / 이벤트(아웃박스 행)는 청크마다 한 트랜잭션으로 커밋
+    private int flush(Long memberId, List<Ingredient> chunk) {
+        return tx.execute(status -> {
+            int saved = bulkWriter.insertAll(chunk);
+            if (saved > 0) {
+                pantryCache.invalidate(memberId);
+                events.publish(AggregateType.INGREDIENT, null, EventType.BULK_CREATED, memberId,
+                        Map.of("source", "import", "count", saved));
+            }
+            return saved;
+        });
+    }
+
+    private IngredientTransferRow parse(Format format, String line) {
+        if (format == Format.NDJSON) {
+            try {
+                return objectMapper.readValue(line, IngredientTransferRow.class);
+            } catch (JsonProcessingException e) {
+                log.debug("가져오기 NDJSON 행 오류: {}", line);
+                return null;
+            }
+        }
+        List<String> cols = parseCsvLine(line);
+        if (cols == null || cols.isEmpty()) return null;
+        return new IngredientTransferRow(
+                col(cols, 0), col(cols, 1), col(cols, 2),
+                col(cols, 3) == null ? null : Boolean.valueOf(col(cols, 3)),
+                col(cols, 4));
+    }
+
+    // 검증 + 엔티티 변환. 잘못된 행은 null
+    private Ingredient toIngredient(Long memberId, IngredientTransferRow row, LocalDate today) {
+        if (row == null) return null;
+
+        String name = TextSanitizer.sanitize(row.ingredientName());
+        if (name.isEmpty() || name.length() > 100) return null;
+
+        IngredientLocation location;
+        try {
+            location = IngredientLocation.from(TextSanitizer.sanitize(row.location()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        LocalDate due;
+        boolean estimated;
+        if (row.due() == null || row.due().isBlank()) {
+            due = today.plusDays(shelfLife.estimateDays(name, location));
+            estimated = true;
+        } else {
+            try {
+                due = LocalDate.parse(row.due().trim());
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+            estimated = Boolean.TRUE.equals(row.isDueEstimated());
+        }
+
+        String memo = row.memo();
+        if (memo != null && memo.length() > 255) memo = memo.substring(0, 255);
+
+        return Ingredient.builder()
+                .memberId(memberId)
+                .ingredientName(name)
+                .location(location)
+                .due(due.atStartOfDay(KST).toLocalDateTime())
+                .isDueEstimated(estimated)
+                .memo(memo)
+                .build();
+    }
+
+    // ========== CSV ==========
+
+    private static void writeCsv(Writer w, IngredientTransferRow row) throws IOException {
+        w.write(csv(row.ingredientName()));
+        w.write(',');
+        w.write(csv(row.location()));
+        w.write(',');
+        w.write(csv(row.due()));
+        w.write(',');
+        w.write(row.isDueEstimated() == null ? "" : row.isDueEstimated().toString());
+        w.write(',');
+        w.write(csv(row.memo()));
+    }
+
+    // 수식으로 시작하는 값은 앞에 ' 를 붙여 텍스트로 (CSV 수식 주입 방지)
+    // 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 내부 따옴표는 두 번
+    private static String csv(String v) {
+        if (v == null) return "";
+        if (!v.isEmpty() && isFormulaStart(v.charAt(0))) v = "'" + v;
+        if (v.indexOf(',') < 0 && v.indexOf('"') < 0 && v.indexOf('\n') < 0 && v.indexOf('\r') < 0) return v;
+        return '"' + v.replace("\"", "\"\"").replace("\r", " ").replace("\n", " ") + '"';
+    }
+
+    // 한 줄 CSV 파싱(따옴표 필드 지원, 여러 줄에 걸친 필드는 미지원 → null)
+    private static List<String> parseCsvLine(String line) {
+        List<String> cols = new ArrayList<>(5);
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cur.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cur.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cols.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        if (quoted) return null;
+        cols.add(cur.toString());
+        return cols;
+    }
+
+    // 내보내기에서 붙인 수식 방지용 ' 는 떼고 읽음 (내보낸 파일을 그대로 다시 가져와도 같은 값)
+    private static String col(List<String> cols, int idx) {
+        if (idx >= cols.size()) return null;
+        String v = cols.get(idx).trim();
+        if (v.length() > 1 && v.charAt(0) == '\'' && isFormulaStart(v.charAt(1))) v = v.substring(1);
+        return v.isEmpty() ? null : v;
+    }
+
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
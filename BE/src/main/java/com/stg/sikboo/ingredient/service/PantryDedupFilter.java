@@ -0,0 +1,72 @@
+package com.stg.sikboo.ingredient.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.domain.Ingredient;
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.IngredientNameNormalizer;
+import com.stg.sikboo.ingredient.domain.IngredientRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일괄 저장용 중복 제거 (AI 저장 / 온보딩 공용)
+ * - 후보 조회는 배치의 정규화 이름 + (최소 due 날짜 ~ 최대 due 날짜+1) 구간으로 1회, 키 문자열만 받음
+ * - DB 기존 항목 + 배치 내 앞선 항목과 (위치, 날짜, 정규화 이름)이 같으면 제외
+ * - 대량 입력(가져오기)은 이 필터 없이 유니크 인덱스 + ON CONFLICT DO NOTHING 에 맡김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PantryDedupFilter {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final IngredientRepository repo;
+
+    /** 저장해도 되는 항목만 입력 순서대로 반환 */
+    public List<Ingredient> filterNew(Long memberId, List<Ingredient> pending) {
+        if (pending.isEmpty()) return List.of();
+
+        LocalDate minDate = pending.get(0).getDue().toLocalDate();
+        LocalDate maxDate = minDate;
+        Set<String> names = new HashSet<>();
+        for (Ingredient p : pending) {
+            LocalDate d = p.getDue().toLocalDate();
+            if (d.isBefore(minDate)) minDate = d;
+            if (d.isAfter(maxDate)) maxDate = d;
+            names.add(IngredientNameNormalizer.normalize(p.getIngredientName()));
+        }
+
+        Set<String> seen = new HashSet<>(repo.findDupKeysInRange(
+                memberId,
+                names,
+                minDate.atStartOfDay(KST).toLocalDateTime(),
+                maxDate.plusDays(1).atStartOfDay(KST).toLocalDateTime()
+        ));
+
+        List<Ingredient> survivors = new ArrayList<>(pending.size());
+        for (Ingredient p : pending) {
+            String key = dupKey(p.getLocation(), p.getDue().toLocalDate(),
+                    IngredientNameNormalizer.normalize(p.getIngredientName()));
+            if (seen.add(key)) survivors.add(p);
+        }
+        if (survivors.size() < pending.size()) {
+            log.debug("중복 식재료 {}건 건너뜀", pending.size() - survivors.size());
+        }
+        return survivors;
+    }
+
+    // findDupKeysInRange 의 SQL 키 형식과 같아야 함
+    private static String dupKey(IngredientLocation loc, LocalDate date, String normName) {
+        return loc.name() + '|' + date + '|' + normName;
+    }
+}
@@ -2,10 +2,16 @@ package com.stg.sikboo.member.domain;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
   // 중복이 있을 수 있으므로 첫 번째 결과만 반환하는 안전한 조회 메서드 추가
   Optional<Member> findFirstByProviderAndProviderId(String provider, String providerId);
 
+  // 온보딩 가드용: 배열 컬럼 없이 완료 플래그만
+  @Query("SELECT m.onboardingCompleted FROM Member m WHERE m.id = :id")
+  Optional<Boolean> findOnboardingCompletedById(@Param("id") Long id);
+
   // ...other methods...
-}
\ No newline at end of file
+}
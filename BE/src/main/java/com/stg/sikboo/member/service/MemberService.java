@@ -11,6 +11,7 @@ import com.stg.sikboo.member.domain.Member;
 import com.stg.sikboo.member.domain.MemberRepository;
 import com.stg.sikboo.member.dto.request.UpdateProfileRequest;
 import com.stg.sikboo.member.dto.response.MemberProfileResponse;
+import com.stg.sikboo.onboarding.infra.OnboardingStatusCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class MemberService {
 
     private final MemberRepository memberRepo;
+    private final OnboardingStatusCache onboardingStatusCache;
 
     /**
      * 프로필 조회
@@ -71,6 +73,7 @@ public class MemberService {
     @Transactional
     public void deleteMember(Long memberId) {
         memberRepo.deleteById(memberId);
+        onboardingStatusCache.evict(memberId);
     }
 
 }
\ No newline at end of file
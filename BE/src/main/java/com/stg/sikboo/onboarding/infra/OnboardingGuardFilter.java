@@ -2,7 +2,6 @@
 package com.stg.sikboo.onboarding.infra;
 
 import java.io.IOException;
-import java.util.Set;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,9 +9,6 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.stg.sikboo.member.domain.Member;
-import com.stg.sikboo.member.domain.MemberRepository;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,10 +21,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OnboardingGuardFilter extends OncePerRequestFilter {
 
-    private final MemberRepository memberRepo;
+    private final OnboardingStatusCache statusCache;
 
     // ⬇️ 온보딩 체크 제외 경로
-    private static final Set<String> WHITELIST = Set.of(
+    private static final String[] WHITELIST = {
         "/api/onboarding",
         "/api/ingredients/analyze-text", // AI 분석(온보딩 중 허용)
         "/api/ingredients/add-from-ai", 
@@ -37,7 +33,7 @@ public class OnboardingGuardFilter extends OncePerRequestFilter {
         "/api/auth/refresh",
         "/api/members/me/profile",
         "/api/health"
-    );
+    };
 
     @Override
     protected void doFilterInternal(
@@ -75,10 +71,8 @@ public class OnboardingGuardFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 5) 온보딩 완료 여부 확인
-        boolean isCompleted = memberRepo.findById(memberId)
-                .map(Member::isOnboardingCompleted)
-                .orElse(true);
+        // 5) 온보딩 완료 여부 확인 (완료 회원은 캐시에서 바로, 미완료만 플래그 조회)
+        boolean isCompleted = statusCache.isCompleted(memberId);
 
         if (!isCompleted) {
             log.warn("온보딩 미완료 차단: memberId={}, uri={}", memberId, uri);
@@ -91,7 +85,10 @@ public class OnboardingGuardFilter extends OncePerRequestFilter {
     }
 
     private boolean shouldSkipOnboardingCheck(String uri) {
-        return WHITELIST.stream().anyMatch(uri::startsWith);
+        for (String prefix : WHITELIST) {
+            if (uri.startsWith(prefix)) return true;
+        }
+        return false;
     }
 
     private Long extractMemberIdFromAuth() {
@@ -0,0 +1,59 @@
+package com.stg.sikboo.onboarding.infra;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.member.domain.MemberRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 온보딩 완료 여부 캐시 (OnboardingGuardFilter 전용)
+ *
+ * - 완료 플래그는 한 번 true 가 되면 되돌아가지 않으므로 "완료한 회원 id" 만 보관
+ * - 완료 회원은 메모리 조회만으로 통과, 미완료 회원만 플래그 컬럼 1개를 조회
+ * - 완료 표시는 온보딩 저장 트랜잭션 커밋 이후에만 (롤백 시 가드 우회 방지)
+ * - 크기 상한을 넘으면 통째로 비움(다시 채워지는 비용은 회원당 쿼리 1번)
+ */
+@Slf4j
+@Component
+public class OnboardingStatusCache {
+
+    private final MemberRepository memberRepo;
+    private final int maxMembers;
+    private final Set<Long> completed = ConcurrentHashMap.newKeySet();
+
+    public OnboardingStatusCache(
+            MemberRepository memberRepo,
+            @Value("${app.onboarding-cache.max-members:100000}") int maxMembers
+    ) {
+        this.memberRepo = memberRepo;
+        this.maxMembers = maxMembers;
+    }
+
+    /** 온보딩 완료 여부. 없는 회원은 기존 동작대로 true(통과) */
+    public boolean isCompleted(Long memberId) {
+        if (completed.contains(memberId)) return true;
+
+        boolean done = memberRepo.findOnboardingCompletedById(memberId).orElse(true);
+        if (done) markCompleted(memberId);
+        return done;
+    }
+
+    /** 온보딩 저장이 커밋된 뒤 호출 */
+    public void markCompleted(Long memberId) {
+        if (completed.size() >= maxMembers) {
+            log.info("[온보딩 캐시] 상한 {} 도달 → 비움", maxMembers);
+            completed.clear();
+        }
+        completed.add(memberId);
+    }
+
+    /** 회원 탈퇴 시 */
+    public void evict(Long memberId) {
+        completed.remove(memberId);
+    }
+}
@@ -1,7 +1,6 @@
 package com.stg.sikboo.onboarding.infra;
 
 import java.text.Normalizer;
-import java.util.regex.Pattern;
 
 /**
  * 텍스트 정제 유틸:
@@ -9,25 +8,102 @@ import java.util.regex.Pattern;
  * - 제로폭/형식 문자 제거
  * - 인용부호/유사 인용/괄호류 제거
  * - 공백 정리
+ *
+ * 한 번의 문자 스캔으로 처리 (정규식 3회 + 중간 문자열 생성 제거)
+ * - ASCII 만 있고 바꿀 문자가 없으면 trim() 만
+ * - 이미 NFKC 형태면 정규화 생략
+ * - BMP 문자는 미리 계산한 분류표로 판정, 그 밖(서로게이트 쌍)은 Character.getType
  */
 public final class TextSanitizer {
     private TextSanitizer() {}
 
-    // 모든 인용부호 범주 + 흔한 유사 문자(프라임, 길리메, 일본 괄호 등)
-    private static final Pattern QUOTE_OR_BRACKETS = Pattern.compile(
-        "[\\p{Pi}\\p{Pf}\"'`´＂＇“”„‟‚‘’ˮ′″‵‶«»‹›「」『』〈〉《》【】〔〕﹁﹂﹃﹄❛❜❝❞〝〞〃]"
-    );
-    // 형식 문자(Cf) + 제로폭들
-    private static final Pattern FORMAT_OR_ZERO_WIDTH = Pattern.compile("[\\p{Cf}\\u200B-\\u200D\\uFEFF]");
-    // 모든 유니코드 공백(분리불가 공백 포함)
-    private static final Pattern ALL_SPACES = Pattern.compile("[\\p{Z}\\s]+");
+    // 모든 인용부호 범주(Pi, Pf) 외에 추가로 지우는 흔한 유사 문자(프라임, 길리메, 일본 괄호 등)
+    private static final String EXTRA_QUOTES_OR_BRACKETS =
+        "\"'`´＂＇“”„‟‚‘’ˮ′″‵‶«»‹›「」『』〈〉《》【】〔〕﹁﹂﹃﹄❛❜❝❞〝〞〃";
+
+    private static final byte KEEP = 0;
+    private static final byte DROP = 1;   // 형식/제로폭/인용/괄호
+    private static final byte SPACE = 2;  // 유니코드 공백(\p{Z}) + \s
+
+    private static final byte[] BMP_CLASS = new byte[0x10000];
+
+    static {
+        for (int c = 0; c < BMP_CLASS.length; c++) {
+            BMP_CLASS[c] = classify(c);
+        }
+        for (int i = 0; i < EXTRA_QUOTES_OR_BRACKETS.length(); i++) {
+            BMP_CLASS[EXTRA_QUOTES_OR_BRACKETS.charAt(i)] = DROP;
+        }
+    }
+
+    private static byte classify(int cp) {
+        switch (Character.getType(cp)) {
+            case Character.FORMAT:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+                return DROP;
+            case Character.SPACE_SEPARATOR:
+            case Character.LINE_SEPARATOR:
+            case Character.PARAGRAPH_SEPARATOR:
+                return SPACE;
+            default:
+                break;
+        }
+        if (cp == 0x200B || cp == 0x200C || cp == 0x200D || cp == 0xFEFF) return DROP;
+        if (cp == ' ' || cp == '\t' || cp == '\n' || cp == 0x0B || cp == '\f' || cp == '\r') return SPACE;
+        return KEEP;
+    }
 
     public static String sanitize(String s) {
         if (s == null) return "";
-        String t = Normalizer.normalize(s, Normalizer.Form.NFKC);
-        t = FORMAT_OR_ZERO_WIDTH.matcher(t).replaceAll("");
-        t = QUOTE_OR_BRACKETS.matcher(t).replaceAll("");
-        t = ALL_SPACES.matcher(t).replaceAll(" ").trim();
-        return t;
+
+        if (isAscii(s)) {
+            if (!asciiNeedsWork(s)) return s.trim();
+        } else if (!Normalizer.isNormalized(s, Normalizer.Form.NFKC)) {
+            s = Normalizer.normalize(s, Normalizer.Form.NFKC);
+        }
+
+        int len = s.length();
+        StringBuilder sb = new StringBuilder(len);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < len; ) {
+            int cp = s.codePointAt(i);
+            i += Character.charCount(cp);
+
+            byte cls = cp < 0x10000 ? BMP_CLASS[cp] : classify(cp);
+            if (cls == DROP) continue;
+            if (cls == SPACE) {
+                pendingSpace = true;
+                continue;
+            }
+            // 공백 묶음은 하나로. 맨 앞/맨 뒤 공백은 어차피 trim 대상이라 넣지 않음
+            if (pendingSpace && sb.length() > 0) sb.append(' ');
+            pendingSpace = false;
+            sb.appendCodePoint(cp);
+        }
+
+        // 기존 동작과 동일하게 양끝 제어문자(<= U+0020)까지 정리
+        return sb.toString().trim();
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    // ASCII 에서 바뀌는 경우: 인용부호, ' ' 이외 공백 문자, 연속 공백
+    private static boolean asciiNeedsWork(String s) {
+        char prev = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            byte cls = BMP_CLASS[c];
+            if (cls == DROP) return true;
+            if (cls == SPACE && (c != ' ' || prev == ' ')) return true;
+            prev = c;
+        }
+        return false;
     }
 }
@@ -4,22 +4,40 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
 import com.stg.sikboo.ingredient.domain.Ingredient;
 import com.stg.sikboo.ingredient.domain.IngredientLocation;
-import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.ingredient.infra.IngredientBulkWriter;
+import com.stg.sikboo.ingredient.infra.PantrySnapshotCache;
+import com.stg.sikboo.ingredient.infra.ShelfLifeKnowledgeBase;
+import com.stg.sikboo.ingredient.service.PantryDedupFilter;
 import com.stg.sikboo.member.domain.Member;
 import com.stg.sikboo.member.domain.MemberRepository;
 import com.stg.sikboo.onboarding.dto.request.OnboardingRequest;
 import com.stg.sikboo.onboarding.dto.response.OnboardingResponse;
 import com.stg.sikboo.onboarding.util.IngredientAiParser;
 import com.stg.sikboo.onboarding.util.IngredientParsing;
+import com.stg.sikboo.onboarding.infra.OnboardingStatusCache;
 import com.stg.sikboo.onboarding.infra.TextSanitizer;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,16 +47,55 @@ import lombok.extern.slf4j.Slf4j;
 public class OnboardingService {
 
     private final MemberRepository memberRepo;
-    private final IngredientRepository ingredientRepo;
     private final IngredientAiParser ingredientAiParser;
+    private final IngredientBulkWriter bulkWriter;
+    private final PantryDedupFilter dedupFilter;
+    private final ShelfLifeKnowledgeBase shelfLife;
+    private final PantrySnapshotCache pantryCache;
+    private final DomainEventPublisher events;
+    private final TransactionTemplate tx;
+    private final OnboardingStatusCache statusCache;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
-    private static final int DAYS_FRIDGE = 7;   // 냉장고
-    private static final int DAYS_FREEZER = 90; // 냉동실
-    private static final int DAYS_ROOM = 3;     // 실온
 
-    @Transactional
+    // AI 추출 동시 실행 수 / 대기열 (가득 차면 요청 스레드가 직접 실행 → 자연스러운 역압)
+    private static final int AI_CONCURRENCY = 4;
+    private static final int AI_QUEUE_CAPACITY = 256;
+    // 온보딩 1건의 추출 전체 대기 한도
+    private static final long EXTRACT_TIMEOUT_SECONDS = 60;
+
+    // ★ 라인별 AI 추출용 스레드 풀 (DB 커넥션을 잡지 않은 상태에서 실행)
+    private final ExecutorService aiExecutor = new ThreadPoolExecutor(
+            AI_CONCURRENCY, AI_CONCURRENCY, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(AI_QUEUE_CAPACITY),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    @PreDestroy
+    public void shutdown() {
+        aiExecutor.shutdownNow();
+    }
+
+    /**
+     * 1) 트랜잭션 밖에서 세 위치의 모든 라인을 동시에 추출(모델 호출)
+     * 2) 짧은 트랜잭션 하나로 프로필 + 재료 + 완료 플래그 저장
+     */
     public OnboardingResponse submitAll(Long memberId, OnboardingRequest req) {
+        // 회원 확인은 persist() 안에서 (여기서 조회하면 OSIV 로 요청 EntityManager 가
+        // 커넥션을 잡은 채 모델 호출 내내 붙들고 있게 됨)
+        Map<IngredientLocation, List<String>> extracted =
+                (req == null || req.skip() || req.ingredients() == null)
+                        ? Map.of()
+                        : extractAll(req);
+
+        Integer inserted = tx.execute(status -> persist(memberId, req, extracted));
+        // 커밋 이후에만 완료 표시 → 다음 요청부터 가드가 DB 를 보지 않음
+        statusCache.markCompleted(memberId);
+        log.info("온보딩 완료: memberId={}, 저장된 재료: {}개", memberId, inserted);
+
+        return new OnboardingResponse(true, inserted == null ? 0 : inserted);
+    }
+
+    private int persist(Long memberId, OnboardingRequest req, Map<IngredientLocation, List<String>> extracted) {
         Member m = memberRepo.findById(memberId)
             .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
 
@@ -67,26 +124,46 @@ public class OnboardingService {
                     diseases.length, allergies.length);
             }
 
-            // 2) 재료 목록 저장 (위치별)
-            if (req.ingredients() != null) {
-                inserted += saveByLocation(memberId, IngredientLocation.냉장고, req.ingredients().냉장고());
-                inserted += saveByLocation(memberId, IngredientLocation.냉동실, req.ingredients().냉동실());
-                inserted += saveByLocation(memberId, IngredientLocation.실온, req.ingredients().실온());
+            // 2) 재료 목록 저장 (위치별, 추출은 이미 끝난 상태)
+            for (Map.Entry<IngredientLocation, List<String>> e : extracted.entrySet()) {
+                inserted += saveByLocation(memberId, e.getKey(), e.getValue());
             }
         }
 
         m.setOnboardingCompleted(true);
-        log.info("온보딩 완료: memberId={}, 저장된 재료: {}개", memberId, inserted);
+        return inserted;
+    }
 
-        return new OnboardingResponse(true, inserted);
+    // 세 위치의 모든 라인을 한 번에 추출. 결과는 위치별 입력 순서 유지
+    private Map<IngredientLocation, List<String>> extractAll(OnboardingRequest req) {
+        Map<IngredientLocation, List<PendingLine>> futures = new EnumMap<>(IngredientLocation.class);
+        submitLines(futures, IngredientLocation.냉장고, req.ingredients().냉장고());
+        submitLines(futures, IngredientLocation.냉동실, req.ingredients().냉동실());
+        submitLines(futures, IngredientLocation.실온, req.ingredients().실온());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(EXTRACT_TIMEOUT_SECONDS);
+        Map<IngredientLocation, List<String>> result = new EnumMap<>(IngredientLocation.class);
+        for (Map.Entry<IngredientLocation, List<PendingLine>> e : futures.entrySet()) {
+            List<String> names = new ArrayList<>();
+            for (PendingLine p : e.getValue()) {
+                names.addAll(await(p, deadline));
+            }
+            log.debug("AI 추출 완료 - 위치: {}, 재료 수: {}", e.getKey(), names.size());
+            result.put(e.getKey(), names);
+        }
+        return result;
     }
 
-    private int saveByLocation(Long memberId, IngredientLocation loc, List<String> lines) {
-        if (lines == null || lines.isEmpty()) return 0;
+    // 추출 대기 중인 라인 (시간 초과/실패 시 원문으로 대체하기 위해 라인을 함께 보관)
+    private record PendingLine(String line, Future<List<String>> future) {}
+
+    private void submitLines(Map<IngredientLocation, List<PendingLine>> futures,
+                             IngredientLocation loc, List<String> lines) {
+        if (lines == null || lines.isEmpty()) return;
 
-        log.debug("재료 저장 시작 - 위치: {}, 입력 라인 수: {}", loc, lines.size());
+        log.debug("재료 추출 시작 - 위치: {}, 입력 라인 수: {}", loc, lines.size());
 
-        List<String> aiExtracted = new ArrayList<>();
+        List<PendingLine> list = futures.computeIfAbsent(loc, k -> new ArrayList<>());
         for (String line : lines) {
             if (line == null || line.isBlank()) continue;
 
@@ -97,22 +174,50 @@ public class OnboardingService {
             log.debug("처리 후: [{}]", cleanLine);
 
             if (cleanLine.contains(",")) {
-                aiExtracted.addAll(IngredientParsing.parseMany(List.of(cleanLine)));
+                list.add(new PendingLine(cleanLine,
+                        CompletableFuture.completedFuture(IngredientParsing.parseMany(List.of(cleanLine)))));
             } else {
-                aiExtracted.addAll(ingredientAiParser.extractIngredients(cleanLine));
+                list.add(new PendingLine(cleanLine, aiExecutor.submit(() -> extractLine(cleanLine))));
             }
         }
+    }
+
+    // 모델 호출 실패 시 라인을 그대로 쉼표 파서로 (온보딩 전체를 실패시키지 않음)
+    private List<String> extractLine(String cleanLine) {
+        try {
+            return ingredientAiParser.extractIngredients(cleanLine);
+        } catch (RuntimeException e) {
+            log.warn("AI 추출 실패 → 입력 그대로 사용: [{}] ({})", cleanLine, e.getMessage());
+            return IngredientParsing.parseMany(List.of(cleanLine));
+        }
+    }
 
+    // 시간 초과/오류 시에도 라인을 버리지 않고 extractLine 실패와 같이 쉼표 파서로
+    private static List<String> await(PendingLine p, long deadlineNanos) {
+        Future<List<String>> f = p.future();
+        try {
+            return f.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            log.warn("AI 추출 시간 초과 → 입력 그대로 사용: [{}]", p.line());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            f.cancel(true);
+        } catch (ExecutionException e) {
+            log.warn("AI 추출 오류 → 입력 그대로 사용: [{}] ({})", p.line(), e.getCause().toString());
+        }
+        return IngredientParsing.parseMany(List.of(p.line()));
+    }
+
+    private int saveByLocation(Long memberId, IngredientLocation loc, List<String> aiExtracted) {
         if (aiExtracted.isEmpty()) {
             log.debug("추출된 재료 없음 - 위치: {}", loc);
             return 0;
         }
 
-        log.debug("AI 추출 완료 - 위치: {}, 재료 수: {}", loc, aiExtracted.size());
-
-        List<Ingredient> batch = new ArrayList<>();
-        LocalDate dueDate = estimateByLocation(loc);
-        LocalDateTime dueDateTime = dueDate.atStartOfDay(KST).toLocalDateTime();
+        // 재료별 보관 기간표로 due 추정 (DB 접근 없음)
+        LocalDate today = LocalDate.now(KST);
+        List<Ingredient> pending = new ArrayList<>();
 
         for (String name : aiExtracted) {
             String cleanName = TextSanitizer.sanitize(name);
@@ -122,32 +227,31 @@ public class OnboardingService {
                 continue;
             }
 
-            log.info("저장할 재료 - 위치: {}, 이름: [{}] (원본: [{}])", loc, cleanName, name);
+            LocalDate dueDate = today.plusDays(shelfLife.estimateDays(cleanName, loc));
 
-            Ingredient ing = Ingredient.builder()
+            pending.add(Ingredient.builder()
                     .memberId(memberId)
                     .ingredientName(cleanName)
                     .location(loc)
-                    .due(dueDateTime)
+                    .due(dueDate.atStartOfDay(KST).toLocalDateTime())
                     .isDueEstimated(true)
-                    .build();
-            batch.add(ing);
+                    .build());
         }
 
-        if (!batch.isEmpty()) {
-            ingredientRepo.saveAll(batch);
-            log.info("재료 저장 완료 - 위치: {}, 저장 수: {}", loc, batch.size());
-        }
+        if (pending.isEmpty()) return 0;
 
-        return batch.size();
-    }
+        // 기존 보유분 + 이번 입력 내 중복은 공용 필터로 제외 (AI 저장과 같은 규칙, 후보 키 1회 조회)
+        // 동시 저장으로 남는 경합은 유니크 인덱스 + ON CONFLICT DO NOTHING 이 최종 판정
+        List<Ingredient> batch = dedupFilter.filterNew(memberId, pending);
+        if (batch.isEmpty()) return 0;
 
-    private LocalDate estimateByLocation(IngredientLocation loc) {
-        int plusDays = switch (loc) {
-            case 냉장고 -> DAYS_FRIDGE;
-            case 냉동실 -> DAYS_FREEZER;
-            case 실온 -> DAYS_ROOM;
-        };
-        return LocalDate.now(KST).plusDays(plusDays);
+        int inserted = bulkWriter.insertAll(batch);
+        if (inserted > 0) {
+            pantryCache.invalidate(memberId);
+            events.publish(AggregateType.INGREDIENT, null, EventType.BULK_CREATED, memberId,
+                    Map.of("source", "onboarding", "location", loc.name(), "count", inserted));
+        }
+        log.info("재료 저장 완료 - 위치: {}, 저장 수: {}", loc, inserted);
+        return inserted;
     }
 }
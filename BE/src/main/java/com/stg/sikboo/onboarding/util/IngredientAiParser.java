@@ -4,15 +4,20 @@ import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.chat.messages.*;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.stereotype.Component;
+
+import com.stg.sikboo.ingredient.infra.RuleBasedIngredientExtractor;
+
 import java.util.*;
 
 @Component
 public class IngredientAiParser {
 
     private final OpenAiChatModel chatModel;
+    private final RuleBasedIngredientExtractor ruleExtractor;
 
-    public IngredientAiParser(OpenAiChatModel chatModel) {
+    public IngredientAiParser(OpenAiChatModel chatModel, RuleBasedIngredientExtractor ruleExtractor) {
         this.chatModel = chatModel;
+        this.ruleExtractor = ruleExtractor;
     }
 
     /**
@@ -21,6 +26,10 @@ public class IngredientAiParser {
     public List<String> extractIngredients(String userInput) {
         if (userInput == null || userInput.isBlank()) return List.of();
 
+        // 사전/규칙으로 확실히 뽑히면 모델 호출 없이 반환
+        Optional<List<String>> ruled = ruleExtractor.extractNames(userInput);
+        if (ruled.isPresent()) return ruled.get();
+
         String promptText = """
             사용자가 입력한 문장에서 음식 재료만 목록으로 추출해줘.
             불필요한 단어(예: '재료:', '필요한 것')는 제외하고, 명사 형태로만 반환해.
@@ -23,6 +23,24 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     List<Participant> findByGroupBuying_GroupBuyingId(Long groupBuyingId);
     
     List<Participant> findByMember_Id(Long memberId);
+
+    // 참여자 목록 응답용: 회원/공동구매를 같은 쿼리로 (N+1 방지)
+    @Query("""
+        SELECT p FROM Participant p
+        JOIN FETCH p.member
+        JOIN FETCH p.groupBuying
+        WHERE p.groupBuying.groupBuyingId = :groupBuyingId
+        """)
+    List<Participant> findWithMemberByGroupBuyingId(@Param("groupBuyingId") Long groupBuyingId);
+
+    // 내 참여 목록 응답용: 공동구매를 같은 쿼리로, 최근 참여순
+    @Query("""
+        SELECT p FROM Participant p
+        JOIN FETCH p.groupBuying
+        WHERE p.member.id = :memberId
+        ORDER BY p.joinedAt DESC
+        """)
+    List<Participant> findWithGroupBuyingByMemberId(@Param("memberId") Long memberId);
     
     Optional<Participant> findByGroupBuying_GroupBuyingIdAndMember_Id(Long groupBuyingId, Long memberId);
     
@@ -46,13 +64,22 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      * @param pageable 페이징 정보
      * @return 필터링된 참여 공동구매 목록
      */
-    @Query("""
-        SELECT p.groupBuying
+    @Query(value = """
+        SELECT gb
+        FROM Participant p
+        JOIN p.groupBuying gb
+        JOIN FETCH gb.member
+        WHERE p.member.id = :memberId
+        AND (:search IS NULL OR :search = '' OR LOWER(CAST(gb.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
+        AND (:category IS NULL OR gb.category = :category)
+        ORDER BY p.joinedAt DESC
+        """,
+        countQuery = """
+        SELECT COUNT(p)
         FROM Participant p
         WHERE p.member.id = :memberId
         AND (:search IS NULL OR :search = '' OR LOWER(CAST(p.groupBuying.title AS string)) LIKE LOWER(CONCAT('%', :search, '%')))
         AND (:category IS NULL OR p.groupBuying.category = :category)
-        ORDER BY p.joinedAt DESC
         """)
     Page<GroupBuying> findMyParticipatingGroupBuyingsWithFilters(
             @Param("memberId") Long memberId,
@@ -1,6 +1,7 @@
 package com.stg.sikboo.participant.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -9,6 +10,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
 import com.stg.sikboo.groupbuying.domain.GroupBuying;
 import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
 import com.stg.sikboo.groupbuying.dto.response.GroupBuyingPageResponse;
@@ -31,6 +35,7 @@ public class ParticipantService {
     private final ParticipantRepository participantRepository;
     private final GroupBuyingRepository groupBuyingRepository;
     private final MemberRepository memberRepository;
+    private final DomainEventPublisher events;
     
     /**
      * 공동구매 참여
@@ -67,6 +72,9 @@ public class ParticipantService {
         // 6. participants 리스트에 추가하여 자동 동기화 트리거
         groupBuying.getParticipants().add(saved);
         groupBuyingRepository.flush();
+        // aggregateId 는 공동구매 id (참여 인원이 바뀐 대상)
+        events.publish(AggregateType.PARTICIPANT, groupBuying.getGroupBuyingId(), EventType.JOINED,
+                member.getId(), Map.of("participantId", saved.getParticipantId()));
         
         return ParticipantResponse.from(saved);
     }
@@ -94,13 +102,14 @@ public class ParticipantService {
         // 5. 참여 삭제
         participantRepository.delete(participant);
         groupBuyingRepository.flush();
+        events.publish(AggregateType.PARTICIPANT, groupBuyingId, EventType.LEFT, memberId, null);
     }
     
     /**
      * 특정 공동구매의 참여자 목록 조회
      */
     public List<ParticipantResponse> getParticipantsByGroupBuying(Long groupBuyingId) {
-        return participantRepository.findByGroupBuying_GroupBuyingId(groupBuyingId).stream()
+        return participantRepository.findWithMemberByGroupBuyingId(groupBuyingId).stream()
                 .map(ParticipantResponse::from)
                 .collect(Collectors.toList());
     }
@@ -109,8 +118,7 @@ public class ParticipantService {
      * 내가 참여한 공동구매 목록 조회
      */
     public List<MyGroupBuyingResponse> getMyParticipatingGroupBuyings(Long memberId) {
-        return participantRepository.findByMember_Id(memberId).stream()
-                .sorted((a, b) -> b.getJoinedAt().compareTo(a.getJoinedAt()))
+        return participantRepository.findWithGroupBuyingByMemberId(memberId).stream()
                 .map(p -> MyGroupBuyingResponse.from(p.getGroupBuying(), p.getJoinedAt()))
                 .collect(Collectors.toList());
     }
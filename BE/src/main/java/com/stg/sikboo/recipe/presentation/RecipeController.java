@@ -1,5 +1,6 @@
 package com.stg.sikboo.recipe.presentation;
 
+import com.stg.sikboo.ingredient.domain.IngredientNameView;
 import com.stg.sikboo.recipe.dto.request.RecipeGenerateRequest;
 import com.stg.sikboo.recipe.dto.response.RecipeSuggestionResponse;
 import com.stg.sikboo.recipe.service.RecipeService;
@@ -47,7 +48,7 @@ public class RecipeController {
 
     /** [생성 탭] 내 재료 목록 */
     @GetMapping("/ingredients/my")
-    public ResponseEntity<List<Map<String, Object>>> myIngredients(@AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<List<IngredientNameView>> myIngredients(@AuthenticationPrincipal Jwt jwt) {
         Long memberId = currentMemberId(jwt);
         log.info("[GET] /ingredients/my memberId={}", memberId);
         return ResponseEntity.ok(recipeService.findMyIngredients(memberId));
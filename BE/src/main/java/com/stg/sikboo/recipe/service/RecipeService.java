@@ -3,8 +3,13 @@ package com.stg.sikboo.recipe.service;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.stg.sikboo.ingredient.domain.Ingredient;
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.event.service.DomainEventPublisher;
+import com.stg.sikboo.ingredient.domain.IngredientNameView;
 import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.ingredient.domain.PantryItem;
+import com.stg.sikboo.ingredient.infra.PantrySnapshotCache;
 import com.stg.sikboo.member.domain.Member;
 import com.stg.sikboo.member.domain.MemberRepository;
 import com.stg.sikboo.recipe.domain.Recipe;
@@ -15,6 +20,8 @@ import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -28,20 +35,29 @@ public class RecipeService {
 
     private final RecipeRepository recipeRepository;
     private final IngredientRepository ingredientRepository;
+    private final PantrySnapshotCache pantryCache;
     private final MemberRepository memberRepository;
     private final ChatClient chat; // Spring AI
+    private final DomainEventPublisher events;
+    private final TransactionTemplate tx;
     private final ObjectMapper mapper;
 
     public RecipeService(
             RecipeRepository recipeRepository,
             IngredientRepository ingredientRepository,
+            PantrySnapshotCache pantryCache,
             MemberRepository memberRepository,
-            ChatClient chatClient
+            ChatClient chatClient,
+            DomainEventPublisher events,
+            TransactionTemplate tx
     ) {
         this.recipeRepository = recipeRepository;
         this.ingredientRepository = ingredientRepository;
+        this.pantryCache = pantryCache;
         this.memberRepository = memberRepository;
         this.chat = chatClient;
+        this.events = events;
+        this.tx = tx;
         this.mapper = new ObjectMapper()
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
@@ -68,35 +84,37 @@ public class RecipeService {
             "밥", "흰쌀밥", "쌀", "백미", "물", "정수"
     );
 
-    // ---------- 내 재료 목록 조회 (JPA) ----------
-    public List<Map<String, Object>> findMyIngredients(Long memberId) {
-        // IngredientRepository:
-        // List<Ingredient> findByMemberIdOrderByIdDesc(Long memberId);
-
-        List<Ingredient> ingredients =
-                ingredientRepository.findByMemberIdOrderByIdDesc(memberId);
+    // ---------- 내 재료 목록 조회 (스냅샷 캐시 → 없으면 id/이름 프로젝션) ----------
+    // 캐시가 비어 있어도 여기서 스냅샷을 채우지 않음(두 컬럼만 필요). 채우는 건 재료 목록 조회
+    public List<IngredientNameView> findMyIngredients(Long memberId) {
+        var snapshot = pantryCache.peek(memberId);
+        if (snapshot.isPresent()) {
+            return snapshot.get().stream()
+                    .map(i -> new IngredientNameView(i.id(), i.name()))
+                    .toList();
+        }
 
-        return ingredients.stream()
-                .map(i -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("id", i.getId());
-                    m.put("name", i.getIngredientName());
-                    return m;
-                })
-                .toList();
+        // 캐시 미스 / 캐시 대상이 아닌 큰 보관함: id/이름 프로젝션만 조회(엔티티 로딩 없음)
+        return ingredientRepository.findNameViewsByMemberId(memberId);
     }
 
-    // ---------- 선택 재료의 이름 조회 (JPA) ----------
+    // ---------- 선택 재료의 이름 조회 (스냅샷 캐시 → 없으면 이름 프로젝션) ----------
     private Set<String> getIngredientNames(Long memberId, List<Long> ids) {
         if (ids == null || ids.isEmpty()) return Set.of();
 
-        // IngredientRepository:
-        // List<Ingredient> findByMemberIdAndIdIn(Long memberId, List<Long> ids);
-        List<Ingredient> ingredients =
-                ingredientRepository.findByMemberIdAndIdIn(memberId, ids);
+        var snapshot = pantryCache.peek(memberId);
+        if (snapshot.isPresent()) {
+            Set<Long> idSet = new HashSet<>(ids);
+            return snapshot.get().stream()
+                    .filter(i -> idSet.contains(i.id()))
+                    .map(PantryItem::name)
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(s -> !s.isBlank())
+                    .collect(Collectors.toSet());
+        }
 
-        return ingredients.stream()
-                .map(Ingredient::getIngredientName)
+        return ingredientRepository.findNamesByMemberIdAndIdIn(memberId, ids).stream()
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(s -> !s.isBlank())
@@ -137,7 +155,7 @@ public class RecipeService {
     }
 
     // ---------- 레시피 생성(즉시 방 생성 → 비동기 AI) ----------
-    // 트랜잭션을 붙이지 않고, 각각의 repository 호출에서 자체 트랜잭션을 사용
+    // 메서드 전체에는 트랜잭션을 붙이지 않음(AI 호출이 길어서). 쓰기 + 이벤트만 TransactionTemplate 로 묶음
     public Map<String, Object> generateRecipes(RecipeGenerateRequest req) {
         Long memberId = (req.memberId() != null) ? req.memberId() : 1L;
 
@@ -162,7 +180,11 @@ public class RecipeService {
         }
         session.setDisplayOrder(maxOrder + 1);
 
-        recipeRepository.save(session);
+        // 방 저장 + 생성 이벤트를 한 트랜잭션으로
+        tx.executeWithoutResult(status -> {
+            recipeRepository.save(session);
+            events.publish(AggregateType.RECIPE, session.getId(), EventType.CREATED, memberId, null);
+        });
 
         Long sessionId = session.getId();
         generatingSessions.add(sessionId);
@@ -199,12 +221,16 @@ public class RecipeService {
                     payload = emptyPayloadJson();
                 }
 
-                // DB 업데이트 (JPA - 각 호출은 자체 트랜잭션)
-                Recipe s = recipeRepository.findById(sessionId).orElseThrow();
-                s.setName(sessionTitle);
-                s.setDetail(payload);
-                recipeRepository.save(s);
-                log.info("[AI-ASYNC] 완료 sessionId={} title={}", s.getId(), sessionTitle);
+                // DB 업데이트 + 이벤트(아웃박스 행)를 한 트랜잭션으로 (둘 중 하나만 남지 않도록)
+                String detail = payload;
+                tx.executeWithoutResult(status -> {
+                    Recipe s = recipeRepository.findById(sessionId).orElseThrow();
+                    s.setName(sessionTitle);
+                    s.setDetail(detail);
+                    events.publish(AggregateType.RECIPE, sessionId, EventType.UPDATED, memberId,
+                            Map.of("title", sessionTitle));
+                });
+                log.info("[AI-ASYNC] 완료 sessionId={} title={}", sessionId, sessionTitle);
             } catch (Exception ex) {
                 log.warn("[AI-ASYNC] 실패 sessionId={} : {}", sessionId, ex.toString());
                 // 실패 시에도 세션 이름만 변경해서 사용자에게 알려줌
@@ -545,6 +571,7 @@ public class RecipeService {
     }
 
     /** 세션 제목 수정 */
+    @Transactional
     public Map<String, Object> updateSessionTitle(Long memberId, Long sessionId, String title) {
         Recipe e = recipeRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 세션"));
@@ -559,6 +586,7 @@ public class RecipeService {
 
         e.setName(newTitle);
         recipeRepository.save(e);
+        events.publish(AggregateType.RECIPE, sessionId, EventType.UPDATED, memberId, Map.of("title", newTitle));
 
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
@@ -571,6 +599,7 @@ public class RecipeService {
     }
 
     /** 세션 삭제 */
+    @Transactional
     public void deleteSession(Long memberId, Long sessionId) {
         Recipe e = recipeRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 세션"));
@@ -581,9 +610,11 @@ public class RecipeService {
 
         generatingSessions.remove(sessionId);
         recipeRepository.delete(e);
+        events.publish(AggregateType.RECIPE, sessionId, EventType.DELETED, memberId, null);
     }
 
     /** 세션 순서 재정렬 (drag & drop 결과 저장) */
+    @Transactional
     public void reorderSessions(Long memberId, List<Long> orderedIds) {
         if (orderedIds == null || orderedIds.isEmpty()) return;
 
@@ -599,6 +630,7 @@ public class RecipeService {
         }
 
         recipeRepository.saveAll(map.values());
+        events.publish(AggregateType.RECIPE, null, EventType.UPDATED, memberId, Map.of("reordered", map.size()));
     }
 
     // ====== 내부 DTO ======
@@ -0,0 +1,55 @@
+package com.stg.sikboo.security;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP CONNECT 인증
+ * - CONNECT 프레임의 Authorization 헤더(Bearer) 우선, 없으면 핸드셰이크 때 쿠키로 인증된 사용자
+ * - access 토큰만 허용, Principal 이름 = 회원 id (convertAndSendToUser 의 대상 키)
+ * - 인증이 없으면 연결 거부
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+  private final JwtDecoder jwtDecoder;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor acc = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (acc == null || !StompCommand.CONNECT.equals(acc.getCommand())) return message;
+
+    String h = acc.getFirstNativeHeader("Authorization");
+    if (h != null && h.startsWith("Bearer ")) {
+      acc.setUser(authenticate(h.substring(7)));
+    } else if (!(acc.getUser() instanceof JwtAuthenticationToken handshake) || !isAccess(handshake.getToken())) {
+      throw new MessageDeliveryException(message, "인증이 필요합니다.");
+    }
+    return message;
+  }
+
+  private JwtAuthenticationToken authenticate(String token) {
+    Jwt jwt;
+    try { jwt = jwtDecoder.decode(token); }
+    catch (JwtException e) { throw new MessageDeliveryException("유효하지 않은 토큰입니다."); }
+    if (!isAccess(jwt)) throw new MessageDeliveryException("access 토큰이 아닙니다.");
+    return new JwtAuthenticationToken(jwt);
+  }
+
+  private static boolean isAccess(Jwt jwt) {
+    return "access".equals(jwt.getClaimAsString("typ")) && jwt.getSubject() != null;
+  }
+}
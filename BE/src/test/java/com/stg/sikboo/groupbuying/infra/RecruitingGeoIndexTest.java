@@ -0,0 +1,158 @@
+package com.stg.sikboo.groupbuying.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.stg.sikboo.event.domain.AggregateType;
+import com.stg.sikboo.event.domain.DomainEvent;
+import com.stg.sikboo.event.domain.EventType;
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
+import com.stg.sikboo.groupbuying.domain.GroupBuyingGeoRow;
+import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
+import com.stg.sikboo.groupbuying.infra.RecruitingGeoIndex.Hit;
+
+class RecruitingGeoIndexTest {
+
+	// 서울시청 기준, 위도 0.009° ≈ 1km
+	private static final double LAT = 37.5665;
+	private static final double LNG = 126.9780;
+
+	private static final long OPEN = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) + 3600;
+	private static final long EXPIRED = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) - 60;
+
+	private GroupBuyingRepository repository;
+	private RecruitingGeoIndex index;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(GroupBuyingRepository.class);
+		when(repository.findRecruitingGeoRows(anyLong(), anyInt())).thenReturn(List.of(
+				row(1L, LAT, LNG, "FRUIT", OPEN),
+				row(2L, LAT + 0.009, LNG, "FRUIT", OPEN),
+				row(3L, LAT + 0.045, LNG, "MEAT", OPEN),
+				row(4L, LAT + 0.009, LNG, "VEGETABLE", OPEN),
+				row(5L, LAT, LNG, "FRUIT", EXPIRED),
+				new Row(6L, LAT, LNG, "FRUIT", "DEADLINE", OPEN)));
+		index = new RecruitingGeoIndex(repository);
+	}
+
+	@Test
+	void notReadyBeforeLoad() {
+		assertFalse(index.ready());
+		index.load();
+		assertTrue(index.ready());
+		// 마감 시간이 지난 5 는 적재는 되지만 검색에서 빠지고, 상태가 DEADLINE 인 6 은 적재되지 않음
+		assertEquals(5, index.size());
+	}
+
+	@Test
+	void searchesByDistanceThenNewestId() {
+		index.load();
+
+		List<Hit> hits = index.search(LAT, LNG, 2.0, null);
+
+		// 같은 거리(2, 4)는 id 가 큰 것부터
+		assertEquals(List.of(1L, 4L, 2L), ids(hits));
+		assertEquals(0.0, hits.get(0).distanceKm(), 1e-9);
+		assertEquals(1.0, hits.get(1).distanceKm(), 0.01);
+		assertEquals(List.of(1L, 4L, 2L, 3L), ids(index.search(LAT, LNG, 10.0, null)));
+	}
+
+	@Test
+	void filtersByCategory() {
+		index.load();
+
+		assertEquals(List.of(1L, 2L), ids(index.search(LAT, LNG, 10.0, Category.FRUIT)));
+		assertEquals(List.of(3L), ids(index.search(LAT, LNG, 10.0, Category.MEAT)));
+		assertTrue(index.search(LAT, LNG, 10.0, Category.DAIRY).isEmpty());
+	}
+
+	@Test
+	void refreshMovesAndRemoves() {
+		index.load();
+		long version = index.version();
+
+		// 2 는 5km 지점으로 이동, 3 은 DB 에 없음(삭제)
+		when(repository.findGeoRowsByIds(Set.of(2L, 3L))).thenReturn(List.of(row(2L, LAT + 0.045, LNG, "FRUIT", OPEN)));
+		index.refresh(Set.of(2L, 3L));
+
+		List<Hit> hits = index.search(LAT, LNG, 10.0, null);
+		assertEquals(List.of(1L, 4L, 2L), ids(hits));
+		assertEquals(5.0, hits.get(2).distanceKm(), 0.01);
+		assertTrue(index.version() > version);
+	}
+
+	@Test
+	void appliesGroupBuyingAndParticipantEvents() {
+		index.load();
+
+		// 참여로 인원이 차서 마감된 경우
+		when(repository.findGeoRowsByIds(Set.of(4L))).thenReturn(List.of(new Row(4L, LAT + 0.009, LNG, "VEGETABLE", "DEADLINE", OPEN)));
+		index.onEvents(List.of(
+				new DomainEvent(1L, AggregateType.PARTICIPANT, 4L, EventType.JOINED, 10L, "{}", LocalDateTime.now()),
+				new DomainEvent(2L, AggregateType.INGREDIENT, 1L, EventType.DELETED, 10L, "{}", LocalDateTime.now())));
+
+		assertEquals(List.of(1L, 2L), ids(index.search(LAT, LNG, 2.0, null)));
+	}
+
+	@Test
+	void scanBoxUsesHalfOpenBounds() {
+		index.load();
+
+		// [min, max): 최소 경계 위의 점은 포함, 최대 경계 위의 점은 제외
+		assertEquals(List.of(1L), scan(LAT, LNG, LAT + 0.009, LNG + 0.01, null));
+		assertEquals(List.of(2L, 4L), scan(LAT + 0.009, LNG, LAT + 0.018, LNG + 0.01, null));
+		assertEquals(List.of(), scan(LAT - 0.01, LNG - 0.01, LAT, LNG, null));
+		// 맞닿은 두 사각형을 합치면 한 사각형과 같음 (중복/누락 없음)
+		List<Long> split = new ArrayList<>(scan(LAT - 0.01, LNG - 0.01, LAT + 0.009, LNG + 0.01, null));
+		split.addAll(scan(LAT + 0.009, LNG - 0.01, LAT + 0.1, LNG + 0.01, null));
+		assertEquals(scan(LAT - 0.01, LNG - 0.01, LAT + 0.1, LNG + 0.01, null), split.stream().sorted().toList());
+	}
+
+	@Test
+	void scanBoxFiltersCategoryAndDeadline() {
+		index.load();
+
+		// 5 는 마감 시간이 지남
+		assertEquals(List.of(1L, 2L), scan(LAT - 0.01, LNG - 0.01, LAT + 0.1, LNG + 0.01, Category.FRUIT));
+		assertEquals(List.of(1L, 2L, 3L, 4L), scan(LAT - 0.01, LNG - 0.01, LAT + 0.1, LNG + 0.01, null));
+	}
+
+	private List<Long> scan(double minLat, double minLng, double maxLat, double maxLng, Category category) {
+		List<Long> ids = new ArrayList<>();
+		index.scanBox(minLat, minLng, maxLat, maxLng, category, (id, lat, lng) -> ids.add(id));
+		return ids.stream().sorted().toList();
+	}
+
+	static List<Long> ids(List<Hit> hits) {
+		return hits.stream().map(Hit::id).toList();
+	}
+
+	static Row row(Long id, double lat, double lng, String category, long deadlineEpoch) {
+		return new Row(id, lat, lng, category, "RECRUITING", deadlineEpoch);
+	}
+
+	record Row(Long id, Double lat, Double lng, String category, String status, Long deadlineEpoch)
+			implements GroupBuyingGeoRow {
+		@Override public Long getId() { return id; }
+		@Override public Double getLat() { return lat; }
+		@Override public Double getLng() { return lng; }
+		@Override public String getCategory() { return category; }
+		@Override public String getStatus() { return status; }
+		@Override public Long getDeadlineEpoch() { return deadlineEpoch; }
+	}
+}
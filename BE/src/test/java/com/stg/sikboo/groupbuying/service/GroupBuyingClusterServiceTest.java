@@ -0,0 +1,154 @@
+package com.stg.sikboo.groupbuying.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.stg.sikboo.groupbuying.domain.GroupBuyingGeoRow;
+import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse.Cluster;
+import com.stg.sikboo.groupbuying.dto.response.GroupBuyingClusterResponse.Point;
+import com.stg.sikboo.groupbuying.infra.RecruitingGeoIndex;
+
+class GroupBuyingClusterServiceTest {
+
+	private static final int ZOOM = 10;
+	private static final int N = 1 << ZOOM;
+	private static final String BBOX = "126.8,37.4,127.2,37.7";
+
+	private static final long OPEN = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) + 3600;
+
+	// 줌 10 타일 경계 (경도 126.9140625 = x 873 의 서쪽 변, 위도는 37.5 가 있는 타일의 남쪽 변)
+	private static final double EDGE_LNG = tileLng(873);
+	private static final double EDGE_LAT = tileLat((int) Math.floor(mercY(37.5)) + 1);
+
+	private RecruitingGeoIndex index;
+
+	@BeforeEach
+	void setUp() {
+		List<GroupBuyingGeoRow> rows = new ArrayList<>();
+		// 한 칸에 5개 → 클러스터
+		for (long id = 1; id <= 5; id++) {
+			rows.add(new Row(id, 37.5665 + id * 0.0001, 126.9780 + id * 0.0001));
+		}
+		// 서로 떨어진 2개 → 개별 마커
+		rows.add(new Row(10L, 37.45, 127.1));
+		rows.add(new Row(11L, 37.65, 126.85));
+		// 타일 경계 위의 점
+		rows.add(new Row(20L, 37.55, EDGE_LNG));
+		rows.add(new Row(21L, EDGE_LAT, 127.05));
+
+		GroupBuyingRepository repository = mock(GroupBuyingRepository.class);
+		when(repository.findRecruitingGeoRows(anyLong(), anyInt())).thenReturn(rows);
+		index = new RecruitingGeoIndex(repository);
+	}
+
+	@Test
+	void clustersCrowdedCellsAndKeepsSparsePoints() {
+		index.load();
+		GroupBuyingClusterResponse res = new GroupBuyingClusterService(index, 100, 0).clusters(BBOX, ZOOM, null);
+
+		assertEquals(ZOOM, res.getZoom());
+		assertEquals(1, res.getClusters().size());
+		Cluster cluster = res.getClusters().get(0);
+		assertEquals(5, cluster.getCount());
+		assertEquals(37.5665 + 0.0003, cluster.getLat(), 1e-9);
+		assertEquals(126.9780 + 0.0003, cluster.getLng(), 1e-9);
+		assertEquals(List.of(10L, 11L, 20L, 21L), pointIds(res));
+	}
+
+	@Test
+	void countsPointsOnTileEdgesOnce() {
+		index.load();
+		GroupBuyingClusterService service = new GroupBuyingClusterService(index, 100, 0);
+
+		// 경계를 사이에 둔 두 타일을 모두 덮는 bbox
+		assertEquals(List.of(10L, 11L, 20L, 21L), pointIds(service.clusters(BBOX, ZOOM, null)));
+		// [min, max) 이므로 경도 경계 점(20)은 동쪽 타일, 위도 경계 점(21)은 북쪽 타일에만 들어감
+		assertEquals(List.of(11L), pointIds(service.clusters(bbox(EDGE_LNG - 0.05, 37.54, EDGE_LNG - 1e-6, 37.56), ZOOM, null)));
+		assertEquals(List.of(10L, 20L, 21L), pointIds(service.clusters(bbox(EDGE_LNG, 37.54, EDGE_LNG + 0.05, 37.56), ZOOM, null)));
+		assertEquals(List.of(), pointIds(service.clusters(bbox(127.0, EDGE_LAT - 0.05, 127.1, EDGE_LAT - 1e-6), ZOOM, null)));
+		assertEquals(List.of(10L, 20L, 21L), pointIds(service.clusters(bbox(127.0, EDGE_LAT, 127.1, EDGE_LAT + 0.05), ZOOM, null)));
+	}
+
+	@Test
+	void reusesTileWithinStaleWindow() {
+		index.load();
+		GroupBuyingClusterService fresh = new GroupBuyingClusterService(index, 100, 0);
+		GroupBuyingClusterService stale = new GroupBuyingClusterService(index, 100, 60_000);
+		fresh.clusters(BBOX, ZOOM, null);
+		stale.clusters(BBOX, ZOOM, null);
+
+		// 10 이 DB 에서 사라져 인덱스에서 빠짐
+		index.refresh(Set.of(10L));
+
+		assertEquals(List.of(11L, 20L, 21L), pointIds(fresh.clusters(BBOX, ZOOM, null)));
+		assertEquals(List.of(10L, 11L, 20L, 21L), pointIds(stale.clusters(BBOX, ZOOM, null)));
+	}
+
+	@Test
+	void rejectsBadRequests() {
+		GroupBuyingClusterService service = new GroupBuyingClusterService(index, 100, 0);
+		assertStatus(HttpStatus.SERVICE_UNAVAILABLE, () -> service.clusters(BBOX, ZOOM, null));
+
+		index.load();
+		assertStatus(HttpStatus.BAD_REQUEST, () -> service.clusters(null, ZOOM, null));
+		assertStatus(HttpStatus.BAD_REQUEST, () -> service.clusters("1,2,3", ZOOM, null));
+		assertStatus(HttpStatus.BAD_REQUEST, () -> service.clusters("a,b,c,d", ZOOM, null));
+		assertStatus(HttpStatus.BAD_REQUEST, () -> service.clusters("127.2,37.4,126.8,37.7", ZOOM, null));
+		// 줌에 비해 너무 넓은 영역(타일 64개 초과)
+		assertStatus(HttpStatus.BAD_REQUEST, () -> service.clusters(BBOX, 16, null));
+	}
+
+	private static void assertStatus(HttpStatus status, Runnable call) {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+		assertEquals(status, e.getStatusCode());
+	}
+
+	private static String bbox(double minLng, double minLat, double maxLng, double maxLat) {
+		return minLng + "," + minLat + "," + maxLng + "," + maxLat;
+	}
+
+	private static List<Long> pointIds(GroupBuyingClusterResponse res) {
+		return res.getPoints().stream().map(Point::getId).sorted().toList();
+	}
+
+	// GroupBuyingClusterService 와 같은 웹 메르카토르 식
+
+	private static double mercY(double lat) {
+		double r = Math.toRadians(lat);
+		return (1 - Math.log(Math.tan(r) + 1 / Math.cos(r)) / Math.PI) / 2 * N;
+	}
+
+	private static double tileLng(int x) {
+		return x / (double) N * 360.0 - 180.0;
+	}
+
+	private static double tileLat(int y) {
+		return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2.0 * y / N))));
+	}
+
+	private record Row(Long id, Double lat, Double lng) implements GroupBuyingGeoRow {
+		@Override public Long getId() { return id; }
+		@Override public Double getLat() { return lat; }
+		@Override public Double getLng() { return lng; }
+		@Override public String getCategory() { return "FRUIT"; }
+		@Override public String getStatus() { return "RECRUITING"; }
+		@Override public Long getDeadlineEpoch() { return OPEN; }
+	}
+}
@@ -0,0 +1,160 @@
+package com.stg.sikboo.groupbuying.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.stg.sikboo.groupbuying.domain.GroupBuying;
+import com.stg.sikboo.groupbuying.domain.GroupBuying.Category;
+import com.stg.sikboo.groupbuying.domain.repository.GroupBuyingRepository;
+import com.stg.sikboo.member.domain.Member;
+import com.stg.sikboo.member.domain.MemberRepository;
+import com.stg.sikboo.participant.domain.Participant;
+import com.stg.sikboo.participant.domain.repository.ParticipantRepository;
+import com.stg.sikboo.participant.service.ParticipantService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 목록 조회가 행 수와 무관하게 정해진 개수의 SQL 로 끝나는지 확인 (주최자/공동구매 지연 로딩 N+1 회귀 방지)
+ * - 주최자가 서로 다른 공동구매 6건 + 한 회원이 그중 4건에 참여
+ * - 호출마다 영속성 컨텍스트를 비우고 Hibernate 통계의 prepared statement 수를 셈
+ * - 테스트 트랜잭션은 롤백되므로 데이터가 남지 않음
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class GroupBuyingListQueryCountTest {
+
+	private static final String KEYWORD = "쿼리수확인";
+	private static final double LAT = 37.5665;
+	private static final double LNG = 126.9780;
+
+	@Autowired
+	private GroupBuyingService groupBuyingService;
+
+	@Autowired
+	private ParticipantService participantService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private GroupBuyingRepository groupBuyingRepository;
+
+	@Autowired
+	private ParticipantRepository participantRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private EntityManagerFactory emf;
+
+	private Statistics statistics;
+	private List<Member> organizers;
+	private Member joiner;
+	private List<GroupBuying> groupBuyings;
+
+	@BeforeEach
+	void setUp() {
+		statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+		organizers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) organizers.add(member("qc-organizer-" + i));
+		joiner = member("qc-joiner");
+
+		groupBuyings = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			groupBuyings.add(groupBuyingRepository.save(GroupBuying.builder()
+					.member(organizers.get(i % organizers.size()))
+					.title(KEYWORD + " " + i)
+					.category(i % 2 == 0 ? Category.FRUIT : Category.VEGETABLE)
+					.totalPrice(10_000)
+					.maxPeople(10)
+					.pickupLocation("서울시청")
+					.pickupLatitude(BigDecimal.valueOf(LAT + i * 0.001))
+					.pickupLongitude(BigDecimal.valueOf(LNG))
+					.deadline(LocalDateTime.now().plusDays(1))
+					.build()));
+		}
+		// joiner 는 주최자가 다른 4건에, 주최자 1, 2 는 0번에 참여
+		for (int i = 0; i < 4; i++) participate(groupBuyings.get(i), joiner);
+		participate(groupBuyings.get(0), organizers.get(1));
+		participate(groupBuyings.get(0), organizers.get(2));
+		em.flush();
+	}
+
+	@Test
+	void groupBuyingListsUseConstantStatements() {
+		assertStatements(2, () -> groupBuyingService.getAllGroupBuyings(null, 20));
+		assertStatements(2, () -> groupBuyingService.getActiveGroupBuyings(null, 20));
+		assertStatements(2, () -> groupBuyingService.getGroupBuyingsByCategory(Category.FRUIT, null, 20));
+		assertEquals(2, assertStatements(2,
+				() -> groupBuyingService.getMyGroupBuyings(organizers.get(0).getId(), null, 20)).getContent().size());
+		assertStatements(1, () -> groupBuyingService.getGroupBuying(groupBuyings.get(0).getGroupBuyingId()));
+	}
+
+	@Test
+	void groupBuyingSearchesUseConstantStatements() {
+		assertEquals(6, assertStatements(2, () -> groupBuyingService.getGroupBuyingsWithFilters(
+				KEYWORD, null, null, null, null, null, 0, 20)).getContent().size());
+		assertEquals(6, assertStatements(2, () -> groupBuyingService.searchGroupBuyingsSlice(
+				KEYWORD, null, null, null, null, null, null, 20)).getContent().size());
+		// 위치 검색: 거리순 id 조회 + 상세 일괄 조회
+		assertEquals(6, assertStatements(2, () -> groupBuyingService.searchGroupBuyingsSlice(
+				KEYWORD, null, null, LAT, LNG, null, null, 20)).getContent().size());
+		assertEquals(6, assertStatements(2, () -> groupBuyingService.searchGroupBuyingsSlice(
+				KEYWORD, null, null, LAT, LNG, 10.0, null, 20)).getContent().size());
+		// 페이지 방식 위치 검색은 전체 건수 쿼리가 하나 더 붙음
+		assertEquals(6, assertStatements(3, () -> groupBuyingService.getGroupBuyingsWithFilters(
+				KEYWORD, null, null, LAT, LNG, 10.0, 0, 20)).getContent().size());
+	}
+
+	@Test
+	void participantListsUseConstantStatements() {
+		assertEquals(3, assertStatements(1, () -> participantService.getParticipantsByGroupBuying(
+				groupBuyings.get(0).getGroupBuyingId())).size());
+		assertEquals(4, assertStatements(1, () -> participantService.getMyParticipatingGroupBuyings(
+				joiner.getId())).size());
+		assertEquals(4, assertStatements(2, () -> participantService.getMyParticipatingGroupBuyingsWithFilters(
+				joiner.getId(), null, null, 0, 20)).getContent().size());
+		assertEquals(2, assertStatements(2, () -> participantService.getMyParticipatingGroupBuyingsWithFilters(
+				joiner.getId(), null, Category.FRUIT, 0, 20)).getContent().size());
+	}
+
+	private <T> T assertStatements(int max, Supplier<T> call) {
+		em.clear();
+		statistics.clear();
+		T result = call.get();
+		long count = statistics.getPrepareStatementCount();
+		assertTrue(count >= 1 && count <= max, () -> "SQL " + count + "회 (최대 " + max + "회)");
+		return result;
+	}
+
+	private Member member(String name) {
+		return memberRepository.save(Member.builder()
+				.name(name + "-" + System.nanoTime())
+				.build());
+	}
+
+	private void participate(GroupBuying groupBuying, Member member) {
+		participantRepository.save(Participant.builder()
+				.groupBuying(groupBuying)
+				.member(member)
+				.build());
+	}
+}
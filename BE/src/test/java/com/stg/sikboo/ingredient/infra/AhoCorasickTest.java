@@ -0,0 +1,86 @@
+package com.stg.sikboo.ingredient.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.stg.sikboo.ingredient.infra.AhoCorasick.Match;
+
+class AhoCorasickTest {
+
+	private static final Comparator<Match> ORDER = Comparator.comparingInt(Match::start)
+			.thenComparingInt(Match::end)
+			.thenComparingInt(Match::pattern);
+
+	@Test
+	void findsOverlappingMatches() {
+		AhoCorasick ac = new AhoCorasick(List.of("he", "she", "his", "hers"));
+		assertEquals(List.of(new Match(1, 4, 1), new Match(2, 4, 0), new Match(2, 6, 3)), sorted(ac.findAll("ushers")));
+	}
+
+	@Test
+	void findsNestedKoreanPatterns() {
+		AhoCorasick ac = new AhoCorasick(List.of("파", "대파", "파인애플"));
+		assertEquals(
+				List.of(new Match(0, 2, 1), new Match(1, 2, 0), new Match(4, 5, 0), new Match(4, 8, 2)),
+				sorted(ac.findAll("대파랑 파인애플")));
+	}
+
+	@Test
+	void keepsFirstOfDuplicatePatternsAndIgnoresEmpty() {
+		AhoCorasick ac = new AhoCorasick(List.of("", "우유", "우유"));
+		assertEquals(List.of(new Match(0, 2, 1)), ac.findAll("우유"));
+	}
+
+	@Test
+	void returnsNothingWithoutMatch() {
+		assertTrue(new AhoCorasick(List.of("두부")).findAll("두유 한 팩").isEmpty());
+		assertTrue(new AhoCorasick(List.of()).findAll("아무거나").isEmpty());
+	}
+
+	@Test
+	void matchesBruteForce() {
+		// 작은 알파벳으로 겹침/접두/접미 관계가 많이 생기게 해서 단순 탐색과 비교
+		Random random = new Random(42L);
+		for (int round = 0; round < 500; round++) {
+			List<String> patterns = new ArrayList<>();
+			int count = 1 + random.nextInt(12);
+			for (int p = 0; p < count; p++) patterns.add(randomString(random, 1 + random.nextInt(4)));
+			String text = randomString(random, random.nextInt(40));
+
+			assertEquals(bruteForce(patterns, text), sorted(new AhoCorasick(patterns).findAll(text)),
+					() -> patterns + " / " + text);
+		}
+	}
+
+	private static List<Match> bruteForce(List<String> patterns, String text) {
+		List<Match> matches = new ArrayList<>();
+		for (int p = 0; p < patterns.size(); p++) {
+			String pattern = patterns.get(p);
+			// 중복 패턴은 먼저 나온 번호로만 보고
+			if (patterns.indexOf(pattern) != p) continue;
+			for (int i = text.indexOf(pattern); i >= 0; i = text.indexOf(pattern, i + 1)) {
+				matches.add(new Match(i, i + pattern.length(), p));
+			}
+		}
+		return sorted(matches);
+	}
+
+	private static List<Match> sorted(List<Match> matches) {
+		List<Match> copy = new ArrayList<>(matches);
+		copy.sort(ORDER);
+		return copy;
+	}
+
+	private static String randomString(Random random, int len) {
+		StringBuilder sb = new StringBuilder(len);
+		for (int i = 0; i < len; i++) sb.append("abc가".charAt(random.nextInt(4)));
+		return sb.toString();
+	}
+}
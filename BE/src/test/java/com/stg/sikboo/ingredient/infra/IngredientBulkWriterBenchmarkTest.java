@@ -0,0 +1,114 @@
+package com.stg.sikboo.ingredient.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.stg.sikboo.ingredient.domain.Ingredient;
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.domain.IngredientRepository;
+import com.stg.sikboo.member.domain.Member;
+import com.stg.sikboo.member.domain.MemberRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 재료 일괄 저장 측정: JPA saveAll(IDENTITY → 행마다 INSERT) vs IngredientBulkWriter(multi-row INSERT)
+ * - 10 / 100 / 1,000 행, 테스트 트랜잭션은 롤백되므로 데이터가 남지 않음
+ * - 로컬 DB 가 필요해 기본 테스트에서는 빠짐: SIKBOO_BENCH=true ./gradlew test --tests '*IngredientBulkWriterBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "SIKBOO_BENCH", matches = "true")
+@SpringBootTest
+@Transactional
+class IngredientBulkWriterBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(IngredientBulkWriterBenchmarkTest.class);
+
+	private static final int[] SIZES = {10, 100, 1_000};
+	private static final int ROUNDS = 5;
+
+	@Autowired
+	private IngredientBulkWriter bulkWriter;
+
+	@Autowired
+	private IngredientRepository ingredientRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	void compareSaveAllAndBulkInsert() {
+		// 워밍업 (커넥션/플랜 캐시)
+		saveAll(rows(newMember(), 100));
+		bulkInsert(rows(newMember(), 100));
+
+		for (int n : SIZES) {
+			long jpa = Long.MAX_VALUE;
+			long bulk = Long.MAX_VALUE;
+			for (int r = 0; r < ROUNDS; r++) {
+				jpa = Math.min(jpa, saveAll(rows(newMember(), n)));
+				bulk = Math.min(bulk, bulkInsert(rows(newMember(), n)));
+			}
+			log.info("[재료 일괄 저장] {}행 - saveAll: {}ms ({} rows/s), bulk: {}ms ({} rows/s)",
+					n, jpa / 1_000, rowsPerSec(n, jpa), bulk / 1_000, rowsPerSec(n, bulk));
+		}
+	}
+
+	private long saveAll(List<Ingredient> rows) {
+		long started = System.nanoTime();
+		ingredientRepository.saveAll(rows);
+		em.flush();
+		long micros = (System.nanoTime() - started) / 1_000;
+		em.clear();
+		return micros;
+	}
+
+	private long bulkInsert(List<Ingredient> rows) {
+		long started = System.nanoTime();
+		int inserted = bulkWriter.insertAll(rows);
+		long micros = (System.nanoTime() - started) / 1_000;
+		assertEquals(rows.size(), inserted);
+		return micros;
+	}
+
+	private Long newMember() {
+		Member member = memberRepository.save(Member.builder()
+				.name("bench-" + System.nanoTime())
+				.build());
+		return member.getId();
+	}
+
+	private static List<Ingredient> rows(Long memberId, int n) {
+		LocalDateTime due = LocalDateTime.now().plusDays(7);
+		List<Ingredient> rows = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			rows.add(Ingredient.builder()
+					.memberId(memberId)
+					.ingredientName("재료" + i)
+					.location(IngredientLocation.냉장고)
+					.due(due)
+					.isDueEstimated(true)
+					.build());
+		}
+		return rows;
+	}
+
+	private static long rowsPerSec(int n, long micros) {
+		return n * 1_000_000L / Math.max(1, micros);
+	}
+}
@@ -0,0 +1,100 @@
+package com.stg.sikboo.ingredient.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.stg.sikboo.ingredient.domain.IngredientLocation;
+import com.stg.sikboo.ingredient.dto.response.IngredientItem;
+
+/**
+ * 번들 사전(ingredient/lexicon.tsv, shelf-life.tsv) 그대로 사용
+ */
+class RuleBasedIngredientExtractorTest {
+
+	private static final IngredientLexicon LEXICON = new IngredientLexicon();
+	private static final ShelfLifeKnowledgeBase SHELF_LIFE = new ShelfLifeKnowledgeBase(LEXICON);
+
+	private final RuleBasedIngredientExtractor extractor = new RuleBasedIngredientExtractor(LEXICON, SHELF_LIFE);
+
+	@Test
+	void extractsSeveralIngredientsWithDefaultStorage() {
+		List<IngredientItem> items = extractor.extract("우유랑 두부 2모 샀어").orElseThrow();
+
+		assertEquals(2, items.size());
+		assertItem(items.get(0), "우유", IngredientLocation.냉장고, SHELF_LIFE.estimateDays("우유", IngredientLocation.냉장고));
+		assertItem(items.get(1), "두부", IngredientLocation.냉장고, SHELF_LIFE.estimateDays("두부", IngredientLocation.냉장고));
+	}
+
+	@Test
+	void keepsAliasAsNameAndUsesCanonicalEntryForStorage() {
+		// 단호박 은 호박 의 별칭: 이름은 그대로, 보관 위치/기한은 호박 기준
+		List<IngredientItem> items = extractor.extract("단호박 한 통").orElseThrow();
+
+		assertEquals(1, items.size());
+		assertItem(items.get(0), "단호박", IngredientLocation.실온, SHELF_LIFE.estimateDays("호박", IngredientLocation.실온));
+	}
+
+	@Test
+	void keepsDistinctAliasesOfSameEntry() {
+		List<String> names = extractor.extractNames("계란 달걀").orElseThrow();
+		assertEquals(List.of("계란", "달걀"), names);
+	}
+
+	@Test
+	void prefersLongestMatch() {
+		// 대파 안의 "파" 는 따로 잡지 않음
+		assertEquals(List.of("대파"), extractor.extractNames("대파 샀어").orElseThrow());
+	}
+
+	@Test
+	void appliesStoragePhrase() {
+		List<IngredientItem> items = extractor.extract("냉동실에 대파 넣었어").orElseThrow();
+
+		assertEquals(1, items.size());
+		assertItem(items.get(0), "대파", IngredientLocation.냉동실, SHELF_LIFE.estimateDays("대파", IngredientLocation.냉동실));
+	}
+
+	@Test
+	void appliesExpiryPhrase() {
+		List<IngredientItem> items = extractor.extract("우유 3일 남았어").orElseThrow();
+		assertItem(items.get(0), "우유", IngredientLocation.냉장고, 3);
+
+		assertEquals(7, extractor.extract("두부 일주일 정도").orElseThrow().get(0).getExpiryDays());
+	}
+
+	@Test
+	void fallsBackWhenUnsure() {
+		// 모르는 조각
+		assertTrue(extractor.extract("우유랑 플라즈마").isEmpty());
+		// 서로 다른 보관 위치
+		assertTrue(extractor.extract("우유 냉장 대파 냉동").isEmpty());
+		// 붙어 있는 두 재료(복합어일 수 있음)
+		assertTrue(extractor.extract("양파감자").isEmpty());
+		// 기한 하나에 재료 여러 개
+		assertTrue(extractor.extract("우유 두부 3일 남았어").isEmpty());
+		// 사전에 없는 것만
+		assertTrue(extractor.extract("플라즈마").isEmpty());
+		assertTrue(extractor.extract(null).isEmpty());
+		assertTrue(extractor.extract("   ").isEmpty());
+	}
+
+	@Test
+	void countsHitsAndFallbacks() {
+		extractor.extract("우유");
+		extractor.extract("플라즈마");
+		extractor.extract("두부");
+
+		assertEquals(2, extractor.hitCount());
+		assertEquals(1, extractor.fallbackCount());
+	}
+
+	private static void assertItem(IngredientItem item, String name, IngredientLocation storage, int days) {
+		assertEquals(name, item.getName());
+		assertEquals(storage.getLabel(), item.getStorage());
+		assertEquals(days, item.getExpiryDays());
+	}
+}
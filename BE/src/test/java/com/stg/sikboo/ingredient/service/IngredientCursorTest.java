@@ -0,0 +1,54 @@
+package com.stg.sikboo.ingredient.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class IngredientCursorTest {
+
+	@Test
+	void roundTrips() {
+		IngredientCursor cursor = new IngredientCursor(LocalDateTime.of(2026, 10, 19, 13, 5, 7, 123_456_000), "대파", 42L);
+		assertEquals(cursor, IngredientCursor.decode(cursor.encode()));
+	}
+
+	@Test
+	void roundTripsWholeMinuteDue() {
+		// LocalDateTime.toString 은 초가 0 이면 생략함
+		IngredientCursor cursor = new IngredientCursor(LocalDateTime.of(2026, 1, 1, 0, 0), "우유", 1L);
+		assertEquals(cursor, IngredientCursor.decode(cursor.encode()));
+	}
+
+	@Test
+	void roundTripsNameWithSeparatorAndSymbols() {
+		// 이름은 마지막 필드라 줄바꿈/구분자 문자가 들어가도 그대로 복원
+		IngredientCursor cursor = new IngredientCursor(LocalDateTime.of(2026, 3, 2, 9, 0), "a\nb\n🍎 +/=", Long.MAX_VALUE);
+		assertEquals(cursor, IngredientCursor.decode(cursor.encode()));
+	}
+
+	@Test
+	void encodesUrlSafeWithoutPadding() {
+		IngredientCursor cursor = new IngredientCursor(LocalDateTime.of(2026, 3, 2, 9, 0), "??>>~~", 7L);
+		String token = cursor.encode();
+		assertFalse(token.contains("+") || token.contains("/") || token.contains("="), token);
+	}
+
+	@Test
+	void rejectsMalformedTokens() {
+		assertThrows(IllegalArgumentException.class, () -> IngredientCursor.decode("not base64!"));
+		assertThrows(IllegalArgumentException.class, () -> IngredientCursor.decode(""));
+		assertThrows(IllegalArgumentException.class, () -> IngredientCursor.decode(encodeRaw("2026-01-01T00:00\n1")));
+		assertThrows(IllegalArgumentException.class, () -> IngredientCursor.decode(encodeRaw("yesterday\n1\n우유")));
+		assertThrows(IllegalArgumentException.class, () -> IngredientCursor.decode(encodeRaw("2026-01-01T00:00\nx\n우유")));
+	}
+
+	private static String encodeRaw(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,98 @@
+package com.stg.sikboo.onboarding.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 한 번 스캔 구현이 기존 구현(NFKC + 정규식 3회)과 같은 결과를 내는지 확인
+ */
+class TextSanitizerTest {
+
+	// ---------- 기존 구현 (비교 기준) ----------
+
+	private static final Pattern QUOTE_OR_BRACKETS = Pattern.compile(
+		"[\\p{Pi}\\p{Pf}\"'`´＂＇“”„‟‚‘’ˮ′″‵‶«»‹›「」『』〈〉《》【】〔〕﹁﹂﹃﹄❛❜❝❞〝〞〃]"
+	);
+	private static final Pattern FORMAT_OR_ZERO_WIDTH = Pattern.compile("[\\p{Cf}\\u200B-\\u200D\\uFEFF]");
+	private static final Pattern ALL_SPACES = Pattern.compile("[\\p{Z}\\s]+");
+
+	private static String oracle(String s) {
+		if (s == null) return "";
+		String t = Normalizer.normalize(s, Normalizer.Form.NFKC);
+		t = FORMAT_OR_ZERO_WIDTH.matcher(t).replaceAll("");
+		t = QUOTE_OR_BRACKETS.matcher(t).replaceAll("");
+		t = ALL_SPACES.matcher(t).replaceAll(" ").trim();
+		return t;
+	}
+
+	// 무작위 문자열 재료: ASCII, 공백류, 인용/괄호, 형식 문자, 전각/호환 문자, 한글, 결합 문자, 서로게이트 쌍
+	private static final int[] POOL = {
+		'a', 'Z', '0', '9', '-', '(', ')', ',', '.', '/', '"', '\'', '`', ' ', '\t', '\n', '\r', 0x0B, '\f', 0x01, 0x1F,
+		0x00A0, 0x1680, 0x2002, 0x2028, 0x2029, 0x202F, 0x3000,
+		0x00AD, 0x200B, 0x200C, 0x200D, 0x200E, 0x2060, 0xFEFF,
+		0x00AB, 0x00BB, 0x2018, 0x2019, 0x201C, 0x201D, 0x2032, 0x2033, 0x300C, 0x300D, 0x3010, 0x3011, 0x301D, 0xFF02,
+		0xFF21, 0xFF41, 0xFF10, 0xFF08, 0xFF5E, 0x2460, 0x3131, 0x3300, 0x00BD, 0x2126, 0xFB01,
+		0xAC00, 0xB108, 0xD7A3, 0x1100, 0x1161, 0x11A8, 0x0301, 0x0308, 0x3099,
+		0x1F34E, 0x1D400, 0x1D7CE, 0xE0001, 0xE0041, 0x1F3FB,
+	};
+
+	@Test
+	void matchesOracleForEveryBmpCodePoint() {
+		List<String> mismatches = new ArrayList<>();
+		for (int c = 0; c < 0x10000; c++) {
+			String ch = String.valueOf((char) c);
+			for (String input : new String[] { ch, "a" + ch + "b", " " + ch + " ", ch + ch, "사과" + ch + " 1개" }) {
+				check(input, mismatches);
+			}
+		}
+		assertTrue(mismatches.isEmpty(), () -> "불일치 " + mismatches);
+	}
+
+	@Test
+	void matchesOracleForRandomStrings() {
+		Random random = new Random(20241019L);
+		List<String> mismatches = new ArrayList<>();
+		for (int n = 0; n < 100_000; n++) {
+			int len = random.nextInt(24);
+			StringBuilder sb = new StringBuilder(len * 2);
+			for (int i = 0; i < len; i++) {
+				// 대부분은 재료 목록에서, 일부는 BMP 아무 문자
+				int cp = random.nextInt(4) == 0 ? random.nextInt(0x10000) : POOL[random.nextInt(POOL.length)];
+				sb.appendCodePoint(cp);
+			}
+			check(sb.toString(), mismatches);
+		}
+		assertTrue(mismatches.isEmpty(), () -> "불일치 " + mismatches);
+	}
+
+	@Test
+	void sanitizesTypicalInput() {
+		assertEquals("", TextSanitizer.sanitize(null));
+		assertEquals("사과 2개", TextSanitizer.sanitize("  \u201C사과\u201D\u200B  \uFF12개 \n"));
+		assertEquals("우유 1L", TextSanitizer.sanitize("「우유」\t1L"));
+		assertEquals("egg", TextSanitizer.sanitize("egg"));
+		assertEquals("egg", TextSanitizer.sanitize(" 'egg' "));
+	}
+
+	private static void check(String input, List<String> mismatches) {
+		String expected = oracle(input);
+		String actual = TextSanitizer.sanitize(input);
+		if (!expected.equals(actual) && mismatches.size() < 20) {
+			mismatches.add(hex(input) + " → 기대 " + hex(expected) + ", 실제 " + hex(actual));
+		}
+	}
+
+	private static String hex(String s) {
+		StringBuilder sb = new StringBuilder("[");
+		s.codePoints().forEach(cp -> sb.append(sb.length() > 1 ? " " : "").append(String.format("U+%04X", cp)));
+		return sb.append(']').toString();
+	}
+}
@@ -16,9 +16,13 @@ export const getGroupBuying = async (id) => {
   return response.data;
 };
 
-// 카테고리별 공동구매 목록 조회
-export const getGroupBuyingsByCategory = async (category) => {
-  const response = await axiosInstance.get(`/groupbuyings/category/${category}`);
+// 카테고리별 공동구매 목록 조회 (최신순, 커서 기반: 응답은 { content, hasNext, nextCursor })
+export const getGroupBuyingsByCategory = async (category, cursor, size) => {
+  const queryParams = new URLSearchParams();
+  if (cursor) queryParams.append('cursor', cursor);
+  if (size !== undefined) queryParams.append('size', size);
+
+  const response = await axiosInstance.get(`/groupbuyings/category/${category}?${queryParams.toString()}`);
   return response.data;
 };
 
@@ -98,6 +102,29 @@ export const searchGroupBuyings = async (params) => {
   return response.data;
 };
 
+/**
+ * 통합 필터링 커서 조회 (무한 스크롤용, 전체 개수 없이 hasNext/nextCursor 만)
+ * @param {Object} params - searchGroupBuyings 와 같은 필터 + cursor
+ * @param {string} params.cursor - 이전 응답의 nextCursor (첫 페이지는 생략)
+ * @param {number} params.size - 페이지 크기
+ * @returns {Promise} { content, size, hasNext, nextCursor }
+ */
+export const searchGroupBuyingsSlice = async (params) => {
+  const queryParams = new URLSearchParams();
+
+  if (params.search) queryParams.append('search', params.search);
+  if (params.category) queryParams.append('category', params.category);
+  if (params.status) queryParams.append('status', params.status);
+  if (params.lat !== undefined) queryParams.append('lat', params.lat);
+  if (params.lng !== undefined) queryParams.append('lng', params.lng);
+  if (params.distance !== undefined) queryParams.append('distance', params.distance);
+  if (params.cursor) queryParams.append('cursor', params.cursor);
+  if (params.size !== undefined) queryParams.append('size', params.size);
+
+  const response = await axiosInstance.get(`/groupbuyings/search/slice?${queryParams.toString()}`);
+  return response.data;
+};
+
 // 특정 공동구매의 참여자 목록 조회
 export const getParticipantsByGroupBuying = async (groupBuyingId) => {
   const response = await axiosInstance.get(`/participants/groupbuying/${groupBuyingId}`);
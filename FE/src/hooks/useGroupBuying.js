@@ -9,7 +9,7 @@ import {
   leaveGroupBuying,
   checkParticipation,
   getParticipantsByGroupBuying,
-  searchGroupBuyings,
+  searchGroupBuyingsSlice,
   searchMyParticipatingGroupBuyings,
 } from '@/api/groupBuyingApi';
 
@@ -62,12 +62,23 @@ export const useGroupBuying = (id) => {
 };
 
 /**
- * 카테고리별 공동구매 목록 조회 Query
+ * 카테고리별 공동구매 무한 스크롤 Query (최신순, 커서 기반)
+ * @param {string} category - 카테고리
+ * @param {number} pageSize - 페이지 크기 (기본값: 20)
  */
-export const useGroupBuyingsByCategory = (category) => {
-  return useQuery({
+export const useGroupBuyingsByCategory = (category, pageSize = 20) => {
+  return useInfiniteQuery({
     queryKey: groupBuyingKeys.category(category),
-    queryFn: () => getGroupBuyingsByCategory(category),
+    queryFn: ({ pageParam }) => getGroupBuyingsByCategory(category, pageParam, pageSize),
+    getNextPageParam: (lastPage) => {
+      return lastPage.hasNext ? lastPage.nextCursor : undefined;
+    },
+    initialPageParam: null,
+    select: (data) => ({
+      pages: data.pages,
+      pageParams: data.pageParams,
+      items: data.pages.flatMap((page) => page.content),
+    }),
     enabled: !!category,
   });
 };
@@ -168,22 +179,22 @@ export const useInfiniteGroupBuyings = (filters = {}) => {
 
   return useInfiniteQuery({
     queryKey: groupBuyingKeys.infinite(filters),
-    queryFn: ({ pageParam = 0 }) =>
-      searchGroupBuyings({
+    queryFn: ({ pageParam }) =>
+      searchGroupBuyingsSlice({
         search,
         category,
         status,
         lat,
         lng,
         distance,
-        page: pageParam,
+        cursor: pageParam,
         size: pageSize,
       }),
     getNextPageParam: (lastPage) => {
-      // hasNext가 true면 다음 페이지 번호 반환, 아니면 undefined
-      return lastPage.hasNext ? lastPage.number + 1 : undefined;
+      // hasNext가 true면 다음 커서 반환, 아니면 undefined
+      return lastPage.hasNext ? lastPage.nextCursor : undefined;
     },
-    initialPageParam: 0,
+    initialPageParam: null,
     // 페이지 데이터 병합
     select: (data) => ({
       pages: data.pages,